@@ -9,10 +9,14 @@ import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import software.bernie.geckolib.core.animatable.GeoAnimatable;
+import software.bernie.geckolib.core.molang.MolangScope;
 import software.bernie.geckolib.core.object.DataTicket;
+import software.bernie.geckolib.core.object.DataTicketStore;
 import software.bernie.geckolib.core.state.BoneSnapshot;
+import software.bernie.geckolib.core.state.PoseBuffer;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 
@@ -24,8 +28,13 @@ import java.util.Map;
  */
 public class AnimatableManager<T extends GeoAnimatable> {
 	private final Map<String, BoneSnapshot> boneSnapshotCollection = new Object2ObjectOpenHashMap<>();
+	private BoneSnapshot[] indexedBoneSnapshots = new BoneSnapshot[0];
+	private final BitSet unsettledBones = new BitSet();
+	private PoseBuffer poseBuffer = null;
 	private final Map<String, AnimationController<T>> animationControllers;
-	private Map<DataTicket<?>, Object> extraData;
+	private final Map<String, AnimationController<T>> triggerIndex = new Object2ObjectOpenHashMap<>();
+	private DataTicketStore extraData;
+	private final MolangScope molangScope = new MolangScope();
 
 	private double lastUpdateTime;
 	private boolean isFirstTick = true;
@@ -40,33 +49,96 @@ public class AnimatableManager<T extends GeoAnimatable> {
 		animatable.registerControllers(registrar);
 
 		this.animationControllers = registrar.build();
+
+		for (AnimationController<T> controller : this.animationControllers.values()) {
+			controller.setManager(this);
+		}
+
+		rebuildTriggerIndex();
 	}
 
 	/**
 	 * Add an {@link AnimationController} to this animatable's manager.<br>
 	 * Generally speaking you probably should have added it during {@link GeoAnimatable#registerControllers}
 	 */
+	@SuppressWarnings("unchecked")
 	public void addController(AnimationController controller) {
-		getAnimationControllers().put(controller.getName(), controller);
+		// The parameter is raw for compatibility, but any controller added here animates this manager's animatable type
+		AnimationController<T> typedController = controller;
+		AnimationController<T> previous = getAnimationControllers().put(typedController.getName(), typedController);
+
+		if (previous != null)
+			previous.setManager(null);
+
+		typedController.setManager(this);
+		rebuildTriggerIndex();
 	}
 
 	/**
 	 * Removes an {@link AnimationController} from this manager by the given name, if present.
 	 */
 	public void removeController(String name) {
-		getAnimationControllers().remove(name);
+		AnimationController<T> controller = getAnimationControllers().remove(name);
+
+		if (controller != null) {
+			controller.setManager(null);
+			rebuildTriggerIndex();
+		}
 	}
 
 	public Map<String, AnimationController<T>> getAnimationControllers() {
 		return this.animationControllers;
 	}
 
+	/**
+	 * Gets the name-based lookup map for this manager's {@link BoneSnapshot BoneSnapshots}.<br>
+	 * Animation processing uses {@link AnimatableManager#getIndexedBoneSnapshots} instead, this map is only kept for convenient lookups by bone name
+	 */
 	public Map<String, BoneSnapshot> getBoneSnapshotCollection() {
 		return this.boneSnapshotCollection;
 	}
 
+	/**
+	 * Gets the master {@link BoneSnapshot} array for this manager, indexed by {@link software.bernie.geckolib.core.animatable.model.CoreGeoBone#getIndex() bone index}.<br>
+	 * The array is grown to hold at least {@code boneCount} snapshots if necessary.
+	 * @param boneCount The number of bones the array needs to hold
+	 */
+	public BoneSnapshot[] getIndexedBoneSnapshots(int boneCount) {
+		if (this.indexedBoneSnapshots.length < boneCount)
+			this.indexedBoneSnapshots = Arrays.copyOf(this.indexedBoneSnapshots, boneCount);
+
+		return this.indexedBoneSnapshots;
+	}
+
+	/**
+	 * Get the indices of this animatable's bones that haven't yet settled back at their initial pose after being animated.<br>
+	 * Maintained by the {@link AnimationProcessor}, so that bones that have already settled don't need to be reset every frame
+	 */
+	public BitSet getUnsettledBones() {
+		return this.unsettledBones;
+	}
+
+	/**
+	 * Get the {@link MolangScope} holding this animatable instance's Molang variable values.<br>
+	 * This scope should be made {@link MolangScope#setCurrent current} while this animatable is being animated
+	 */
+	public MolangScope getMolangScope() {
+		return this.molangScope;
+	}
+
+	/**
+	 * Gets the {@link PoseBuffer} for this manager, used when the animatable's model is evaluated at a fixed rate
+	 */
+	public PoseBuffer getPoseBuffer() {
+		if (this.poseBuffer == null)
+			this.poseBuffer = new PoseBuffer();
+
+		return this.poseBuffer;
+	}
+
 	public void clearSnapshotCache() {
 		getBoneSnapshotCollection().clear();
+		Arrays.fill(this.indexedBoneSnapshots, null);
 	}
 
 	public double getLastUpdateTime() {
@@ -100,31 +172,74 @@ public class AnimatableManager<T extends GeoAnimatable> {
 	 */
 	public <D> void setData(DataTicket<D> dataTicket, D data) {
 		if (this.extraData == null)
-			this.extraData = new Object2ObjectOpenHashMap<>();
+			this.extraData = new DataTicketStore();
 
-		this.extraData.put(dataTicket, data);
+		this.extraData.setData(dataTicket, data);
+	}
+
+	/**
+	 * Set a custom double data point to be used later, without boxing
+	 * @param dataTicket The DataTicket for the data point
+	 * @param value The value to store
+	 */
+	public void setDouble(DataTicket<Double> dataTicket, double value) {
+		if (this.extraData == null)
+			this.extraData = new DataTicketStore();
+
+		this.extraData.setDouble(dataTicket, value);
 	}
 
 	/**
 	 * Retrieve a custom data point that was stored earlier, or null if it hasn't been stored
 	 */
 	public <D> D getData(DataTicket<D> dataTicket) {
-		return this.extraData != null ? dataTicket.getData(this.extraData) : null;
+		return this.extraData != null ? this.extraData.getData(dataTicket) : null;
+	}
+
+	/**
+	 * Retrieve a custom double data point that was stored earlier without boxing, or the default value if it hasn't been stored
+	 */
+	public double getDouble(DataTicket<Double> dataTicket, double defaultValue) {
+		return this.extraData != null ? this.extraData.getDouble(dataTicket, defaultValue) : defaultValue;
 	}
 
 	/**
 	 * Attempt to trigger an animation from a given controller name and registered triggerable animation name.<br>
-	 * This pseudo-overloaded method checks each controller in turn until one of them accepts the trigger.<br>
-	 * This can be sped up by specifying which controller you intend to receive the trigger in {@link AnimatableManager#tryTriggerAnimation(String, String)}
+	 * This pseudo-overloaded method looks up the first controller that registered the animation via this manager's trigger index, and triggers it through {@link AnimationController#tryTriggerAnimation}
 	 * @param animName The name of animation to trigger. This needs to have been registered with the controller via {@link software.bernie.geckolib.core.animation.AnimationController#triggerableAnim AnimationController.triggerableAnim}
 	 */
 	public void tryTriggerAnimation(String animName) {
-		for (AnimationController<?> controller : getAnimationControllers().values()) {
-			if (controller.tryTriggerAnimation(animName))
-				return;
+		AnimationController<T> controller = this.triggerIndex.get(animName);
+
+		if (controller != null)
+			controller.tryTriggerAnimation(animName);
+	}
+
+	/**
+	 * Rebuild the merged index of {@link AnimationController#triggerableAnim triggerable animation} names to the first controller registering them.<br>
+	 * This is called automatically when controllers are added or removed
+	 */
+	protected void rebuildTriggerIndex() {
+		this.triggerIndex.clear();
+
+		// Reads the field directly, as this is called during construction before subclasses such as ContextAwareAnimatableManager are initialised
+		for (AnimationController<T> controller : this.animationControllers.values()) {
+			for (String animName : controller.triggerableAnimations.keySet()) {
+				this.triggerIndex.putIfAbsent(animName, controller);
+			}
 		}
 	}
 
+	/**
+	 * Called by one of this manager's controllers when it {@link AnimationController#triggerableAnim registers} a triggerable animation, to keep the trigger index up to date
+	 */
+	void onTriggerableAnimRegistered(AnimationController<T> controller, String animName) {
+		AnimationController<T> existing = this.triggerIndex.putIfAbsent(animName, controller);
+
+		if (existing != null && existing != controller)
+			rebuildTriggerIndex();
+	}
+
 	/**
 	 * Attempt to trigger an animation from a given controller name and registered triggerable animation name
 	 * @param controllerName The name of the controller name the animation belongs to
@@ -10,9 +10,12 @@ import com.google.gson.JsonPrimitive;
 import software.bernie.geckolib.core.animatable.GeoAnimatable;
 import software.bernie.geckolib.core.keyframe.BoneAnimation;
 import software.bernie.geckolib.core.keyframe.event.data.CustomInstructionKeyframeData;
+import software.bernie.geckolib.core.keyframe.event.data.KeyFrameData;
 import software.bernie.geckolib.core.keyframe.event.data.ParticleKeyframeData;
 import software.bernie.geckolib.core.keyframe.event.data.SoundKeyframeData;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -21,7 +24,24 @@ import java.util.concurrent.ConcurrentHashMap;
  * Modifications or extensions of a compiled Animation are not supported, and therefore an instance of <code>Animation</code> is considered final and immutable.
  */
 public record Animation(String name, double length, LoopType loopType, BoneAnimation[] boneAnimations, Keyframes keyFrames) {
-	public record Keyframes(SoundKeyframeData[] sounds, ParticleKeyframeData[] particles, CustomInstructionKeyframeData[] customInstructions) {}
+	/**
+	 * The event keyframes for an animation, each sorted by their start tick so that they can be dispatched in order by the {@link AnimationController}
+	 */
+	public record Keyframes(SoundKeyframeData[] sounds, ParticleKeyframeData[] particles, CustomInstructionKeyframeData[] customInstructions) {
+		public Keyframes {
+			sounds = sortByStartTick(sounds);
+			particles = sortByStartTick(particles);
+			customInstructions = sortByStartTick(customInstructions);
+		}
+
+		private static <D extends KeyFrameData> D[] sortByStartTick(D[] keyframes) {
+			D[] sorted = keyframes.clone();
+
+			Arrays.sort(sorted, Comparator.comparingDouble(KeyFrameData::getStartTick));
+
+			return sorted;
+		}
+	}
 
 	static Animation generateWaitAnimation(double length) {
 		return new Animation(RawAnimation.Stage.WAIT, length, LoopType.PLAY_ONCE, new BoneAnimation[0],
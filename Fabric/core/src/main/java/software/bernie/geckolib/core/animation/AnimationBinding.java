@@ -0,0 +1,116 @@
+package software.bernie.geckolib.core.animation;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import software.bernie.geckolib.core.animatable.model.CoreBakedGeoModel;
+import software.bernie.geckolib.core.animatable.model.CoreGeoBone;
+import software.bernie.geckolib.core.keyframe.BoneAnimation;
+import software.bernie.geckolib.core.keyframe.KeyframeStack;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pre-compiled mapping of an {@link Animation Animation's} {@link BoneAnimation BoneAnimations} to the bones of a {@link CoreBakedGeoModel}.<br>
+ * Bindings are built once per model and animation pair and then cached, so that animation playback doesn't need to look up bones by name.<br>
+ * Bone indices are derived from the baked model alone, following the same depth-first order that {@link AnimationProcessor#setActiveModel} registers bones in.
+ * @param model The baked model this binding was built for
+ * @param animation The animation this binding was built for
+ * @param boneIndices The {@link CoreGeoBone#getIndex() bone index} for each of the animation's {@code BoneAnimations}, in the same order, or -1 if the model doesn't have that bone
+ * @param missingBones The names of the bones referenced by the animation that couldn't be found in the model
+ * @param fullySampled Whether every keyframe channel in the animation has been pre-sampled, meaning its pose depends only on the animation time
+ */
+public record AnimationBinding(CoreBakedGeoModel model, Animation animation, int[] boneIndices, String[] missingBones, boolean fullySampled) {
+	// Keyed by identity, and guarded by itself as bindings are looked up from render threads while resource reloads clear them
+	private static final Map<CoreBakedGeoModel, Map<Animation, AnimationBinding>> BINDINGS = new Reference2ObjectOpenHashMap<>();
+
+	/**
+	 * Gets the cached binding for the given model and animation, building it if it isn't already cached
+	 * @param model The baked model to bind to. If null, the binding is built with every bone missing, and isn't cached
+	 * @param animation The animation to bind
+	 * @return The {@code AnimationBinding} for the given model and animation
+	 */
+	public static AnimationBinding get(CoreBakedGeoModel model, Animation animation) {
+		if (model == null || animation.boneAnimations().length == 0)
+			return build(model, animation);
+
+		synchronized (BINDINGS) {
+			Map<Animation, AnimationBinding> modelBindings = BINDINGS.get(model);
+
+			if (modelBindings == null)
+				BINDINGS.put(model, modelBindings = new Reference2ObjectOpenHashMap<>());
+
+			AnimationBinding binding = modelBindings.get(animation);
+
+			if (binding == null)
+				modelBindings.put(animation, binding = build(model, animation));
+
+			return binding;
+		}
+	}
+
+	/**
+	 * Clear all cached bindings.<br>
+	 * Called when GeckoLib reloads its resources, as the baked models and animations are replaced at that point
+	 */
+	public static void clearCache() {
+		synchronized (BINDINGS) {
+			BINDINGS.clear();
+		}
+	}
+
+	private static AnimationBinding build(CoreBakedGeoModel model, Animation animation) {
+		BoneAnimation[] boneAnimations = animation.boneAnimations();
+		int[] boneIndices = new int[boneAnimations.length];
+		List<String> missingBones = new ObjectArrayList<>(0);
+		boolean fullySampled = true;
+		Object2IntOpenHashMap<String> modelBoneIndices = new Object2IntOpenHashMap<>();
+
+		modelBoneIndices.defaultReturnValue(-1);
+
+		if (model != null) {
+			int boneCount = 0;
+
+			for (CoreGeoBone bone : model.getBones()) {
+				boneCount = indexBones(bone, boneCount, modelBoneIndices);
+			}
+		}
+
+		for (int i = 0; i < boneAnimations.length; i++) {
+			boneIndices[i] = modelBoneIndices.getInt(boneAnimations[i].boneName());
+
+			if (boneIndices[i] == -1)
+				missingBones.add(boneAnimations[i].boneName());
+
+			fullySampled &= isSampled(boneAnimations[i].rotationKeyFrames()) && isSampled(boneAnimations[i].positionKeyFrames()) && isSampled(boneAnimations[i].scaleKeyFrames());
+		}
+
+		return new AnimationBinding(model, animation, boneIndices, missingBones.toArray(new String[0]), fullySampled);
+	}
+
+	/**
+	 * Index the given bone and its children by name, in the same order as {@link AnimationProcessor#registerGeoBone}
+	 * @return The number of bones indexed so far
+	 */
+	private static int indexBones(CoreGeoBone bone, int boneCount, Object2IntOpenHashMap<String> boneIndices) {
+		boneIndices.put(bone.getName(), boneCount++);
+
+		for (CoreGeoBone child : bone.getChildBones()) {
+			boneCount = indexBones(child, boneCount, boneIndices);
+		}
+
+		return boneCount;
+	}
+
+	private static boolean isSampled(KeyframeStack<?> stack) {
+		return stack.xKeyframes().isEmpty() || stack.samples() != null;
+	}
+
+	/**
+	 * Whether the animation references any bones that the model doesn't have
+	 */
+	public boolean hasMissingBones() {
+		return this.missingBones.length > 0;
+	}
+}
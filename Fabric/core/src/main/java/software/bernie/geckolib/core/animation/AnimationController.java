@@ -10,6 +10,7 @@ import com.eliotlash.mclib.math.IValue;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import software.bernie.geckolib.core.animatable.GeoAnimatable;
+import software.bernie.geckolib.core.animatable.model.CoreBakedGeoModel;
 import software.bernie.geckolib.core.animatable.model.CoreGeoBone;
 import software.bernie.geckolib.core.animatable.model.CoreGeoModel;
 import software.bernie.geckolib.core.keyframe.*;
@@ -28,6 +29,8 @@ import software.bernie.geckolib.core.state.BoneSnapshot;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
 /**
  * The actual controller that handles the playing and usage of animations, including their various keyframes and instruction markers.
@@ -39,8 +42,25 @@ public class AnimationController<T extends GeoAnimatable> {
 	protected final String name;
 	protected final AnimationStateHandler<T> stateHandler;
 	protected final Map<String, BoneAnimationQueue> boneAnimationQueues = new Object2ObjectOpenHashMap<>();
+	protected BoneAnimationQueue[] indexedBoneAnimationQueues = new BoneAnimationQueue[0];
+	protected BoneAnimationQueue[] activeBoneAnimationQueues = new BoneAnimationQueue[0];
+	protected int activeBoneAnimationQueueCount = 0;
+	protected Set<String> boneMask = null;
+	protected BoneSnapshot[] indexedBoneSnapshots = new BoneSnapshot[0];
+	/**
+	 * @deprecated Use {@link AnimationController#indexedBoneSnapshots} instead.
+	 * Still populated with the same snapshots by bone name for subclasses that read it, but no longer read by the controller itself
+	 */
+	@Deprecated
 	protected final Map<String, BoneSnapshot> boneSnapshots = new Object2ObjectOpenHashMap<>();
-	protected Queue<AnimationProcessor.QueuedAnimation> animationQueue = new LinkedList<>();
+	protected AnimationProcessor.QueuedAnimation[] animationStages = new AnimationProcessor.QueuedAnimation[0];
+	protected int animationStageIndex = 0;
+	/**
+	 * @deprecated Use {@link AnimationController#animationStages} and {@link AnimationController#animationStageIndex} instead.
+	 * Now a live view of the remaining stages, which can be inspected or polled, but not added to or re-assigned
+	 */
+	@Deprecated
+	protected Queue<AnimationProcessor.QueuedAnimation> animationQueue = new RemainingStageQueue();
 
 	protected boolean isJustStarting = false;
 	protected boolean needsAnimationReload = false;
@@ -55,16 +75,40 @@ public class AnimationController<T extends GeoAnimatable> {
 	protected final Map<String, RawAnimation> triggerableAnimations = new Object2ObjectOpenHashMap<>(0);
 	protected RawAnimation triggeredAnimation = null;
 	protected boolean handlingTriggeredAnimations = false;
+	private AnimatableManager<T> manager = null;
 
 	protected double transitionLength;
 	protected RawAnimation currentRawAnimation;
 	protected AnimationProcessor.QueuedAnimation currentAnimation;
 	protected State animationState = State.STOPPED;
 	protected double tickOffset;
-	protected Function<T, Double> animationSpeedModifier = animatable -> 1d;
+	protected ToDoubleFunction<T> primitiveSpeedModifier = animatable -> 1d;
+	private Function<T, Double> boxedSpeedModifier = this.primitiveSpeedModifier::applyAsDouble;
+	/**
+	 * @deprecated Use {@link AnimationController#primitiveSpeedModifier} via {@link AnimationController#setAnimationSpeedModifier} instead.
+	 * Still used in place of the primitive modifier if a subclass assigns it directly
+	 */
+	@Deprecated
+	protected Function<T, Double> animationSpeedModifier = this.boxedSpeedModifier;
 	protected Function<T, EasingType> overrideEasingTypeFunction = animatable -> null;
-	private final Set<KeyFrameData> executedKeyFrames = new ObjectOpenHashSet<>();
+	private Animation eventKeyframeAnimation = null;
+	private int soundKeyframeCursor = 0;
+	private int particleKeyframeCursor = 0;
+	private int customKeyframeCursor = 0;
 	protected CoreGeoModel<T> lastModel;
+	private CoreBakedGeoModel queuedModel;
+	private AnimationBinding currentBinding;
+	private int[] keyframeCursors = new int[0];
+	protected Predicate<T> wakeCondition = null;
+	protected boolean lowPriority = false;
+	protected double animationSpeed = 1;
+	protected EasingType easingOverride = null;
+	protected double sharedPoseInterval = 0;
+	private AnimationBinding deferredBinding = null;
+	private long deferredPhase = 0;
+	protected boolean sleeping = false;
+	protected float[] heldPose = new float[0];
+	protected byte[] heldPoseChannels = new byte[0];
 
 	/**
 	 * Instantiates a new {@code AnimationController}.<br>
@@ -151,11 +195,28 @@ public class AnimationController<T extends GeoAnimatable> {
 	 * @return this
 	 */
 	public AnimationController<T> setAnimationSpeedHandler(Function<T, Double> speedModFunction) {
+		this.primitiveSpeedModifier = speedModFunction::apply;
+		this.boxedSpeedModifier = speedModFunction;
 		this.animationSpeedModifier = speedModFunction;
 
 		return this;
 	}
 
+	/**
+	 * Applies the given primitive modifier function to this controller, for handling the speed that the controller should play its animations at.<br>
+	 * An output value of 1 is considered neutral, with 2 playing an animation twice as fast, 0.5 playing half as fast, etc.<br>
+	 * The function is called once per render frame, before the controller processes its animations
+	 * @param speedModFunction The function to apply to this controller to handle animation speed
+	 * @return this
+	 */
+	public AnimationController<T> setAnimationSpeedModifier(ToDoubleFunction<T> speedModFunction) {
+		this.primitiveSpeedModifier = speedModFunction;
+		this.boxedSpeedModifier = speedModFunction::applyAsDouble;
+		this.animationSpeedModifier = this.boxedSpeedModifier;
+
+		return this;
+	}
+
 	/**
 	 * Applies the given modifier value to this controller, for handlign the speed that the controller hsould play its animations at.<br>
 	 * A value of 1 is considered neutral, with 2 playing an animation twice as fast, 0.5 playing half as fast, etc.
@@ -163,7 +224,7 @@ public class AnimationController<T extends GeoAnimatable> {
 	 * @return this
 	 */
 	public AnimationController<T> setAnimationSpeed(double speed) {
-		return setAnimationSpeedHandler(animatable -> speed);
+		return setAnimationSpeedModifier(animatable -> speed);
 	}
 
 	/**
@@ -188,6 +249,87 @@ public class AnimationController<T extends GeoAnimatable> {
 		return this;
 	}
 
+	/**
+	 * Allows this controller to sleep while it is {@link State#STOPPED stopped} or {@link State#PAUSED holding its last frame}.<br>
+	 * A sleeping controller doesn't call its {@link AnimationStateHandler} or evaluate any keyframes, and instead re-applies the pose it last held.<br>
+	 * The controller is woken by {@link AnimationController#setAnimation}, {@link AnimationController#tryTriggerAnimation}, {@link AnimationController#forceAnimationReset},
+	 * or {@link AnimationController#wake()}, so this should only be used for controllers whose animations are set from outside their state handler
+	 * @return this
+	 */
+	public AnimationController<T> sleepWhenIdle() {
+		return sleepWhenIdle(animatable -> false);
+	}
+
+	/**
+	 * Allows this controller to sleep while it is {@link State#STOPPED stopped} or {@link State#PAUSED holding its last frame},
+	 * additionally waking it whenever the given condition is met.<br>
+	 * The condition is checked every render frame while the controller is asleep, so it should be cheap
+	 * @param wakeCondition The predicate to check for whether the controller should wake up
+	 * @return this
+	 * @see AnimationController#sleepWhenIdle()
+	 */
+	public AnimationController<T> sleepWhenIdle(Predicate<T> wakeCondition) {
+		this.wakeCondition = wakeCondition;
+
+		return this;
+	}
+
+	/**
+	 * Wakes this controller if it is asleep, so that it resumes calling its {@link AnimationStateHandler} on the next render frame
+	 */
+	public void wake() {
+		this.sleeping = false;
+	}
+
+	/**
+	 * Returns whether this controller is currently asleep
+	 * @see AnimationController#sleepWhenIdle()
+	 */
+	public boolean isSleeping() {
+		return this.sleeping;
+	}
+
+	/**
+	 * Marks this controller as low priority, allowing it to be skipped entirely when its animatable is animated at a reduced {@link AnimationLod level of detail}.<br>
+	 * Use this for cosmetic controllers, such as idle fidgets or secondary motion, that aren't noticeable from a distance
+	 * @return this
+	 */
+	public AnimationController<T> lowPriority() {
+		this.lowPriority = true;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether this controller is low priority
+	 * @see AnimationController#lowPriority()
+	 */
+	public boolean isLowPriority() {
+		return this.lowPriority;
+	}
+
+	/**
+	 * Restricts this controller to only animating the given bones.<br>
+	 * By default, the controller animates the union of all bones referenced by the animations it has played on the current model,
+	 * so this is only needed if the controller should ignore some of the bones its animations reference.
+	 * @param boneNames The names of the bones this controller is allowed to animate, or none to remove the mask
+	 * @return this
+	 */
+	public AnimationController<T> setBoneMask(String... boneNames) {
+		this.boneMask = boneNames.length == 0 ? null : new ObjectOpenHashSet<>(boneNames);
+		this.queuedModel = null;
+
+		return this;
+	}
+
+	/**
+	 * Gets the explicit bone mask for this controller, if one has been set
+	 * @return The names of the bones this controller is restricted to, or null if the mask is derived from the controller's animations
+	 */
+	public Set<String> getBoneMask() {
+		return this.boneMask;
+	}
+
 	/**
 	 * Registers a triggerable {@link RawAnimation} with the controller.<br>
 	 * These can then be triggered by the various {@code triggerAnim} methods in {@code GeoAnimatable's} subclasses
@@ -198,6 +340,9 @@ public class AnimationController<T extends GeoAnimatable> {
 	public AnimationController<T> triggerableAnim(String name, RawAnimation animation) {
 		this.triggerableAnimations.put(name, animation);
 
+		if (this.manager != null)
+			this.manager.onTriggerableAnimRegistered(this, name);
+
 		return this;
 	}
 
@@ -239,7 +384,9 @@ public class AnimationController<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Gets the currently loaded animation's {@link BoneAnimationQueue BoneAnimationQueues}.
+	 * Gets the currently loaded animation's {@link BoneAnimationQueue BoneAnimationQueues}.<br>
+	 * This is a name-based lookup for the queues, which are otherwise stored by {@link CoreGeoBone#getIndex() bone index}.
+	 * Clearing this map will cause the queues to be rebuilt the next time the controller is processed
 	 */
 	public Map<String, BoneAnimationQueue> getBoneAnimationQueues() {
 		return this.boneAnimationQueues;
@@ -251,7 +398,10 @@ public class AnimationController<T extends GeoAnimatable> {
 	 * @return The computed current animation speed modifier
 	 */
 	public double getAnimationSpeed() {
-		return this.animationSpeedModifier.apply(this.animatable);
+		if (this.animationSpeedModifier != this.boxedSpeedModifier)
+			return this.animationSpeedModifier.apply(this.animatable);
+
+		return this.primitiveSpeedModifier.applyAsDouble(this.animatable);
 	}
 
 	/**
@@ -261,6 +411,7 @@ public class AnimationController<T extends GeoAnimatable> {
 	 */
 	public void forceAnimationReset() {
 		this.needsAnimationReload = true;
+		this.sleeping = false;
 	}
 
 	/**
@@ -326,7 +477,9 @@ public class AnimationController<T extends GeoAnimatable> {
 	 * If {@link AnimationController#forceAnimationReset()} has been called prior to this, the controller will reload the animation regardless of whether it matches the currently loaded one or not
 	 */
 	public void setAnimation(RawAnimation rawAnimation) {
-		if (rawAnimation == null || rawAnimation.getAnimationStages().isEmpty()) {
+		this.sleeping = false;
+
+		if (rawAnimation == null || rawAnimation.getStages().isEmpty()) {
 			stop();
 
 			return;
@@ -334,10 +487,11 @@ public class AnimationController<T extends GeoAnimatable> {
 
 		if (this.needsAnimationReload || !rawAnimation.equals(this.currentRawAnimation)) {
 			if (this.lastModel != null) {
-				Queue<AnimationProcessor.QueuedAnimation> animations = this.lastModel.getAnimationProcessor().buildAnimationQueue(this.animatable, rawAnimation);
+				AnimationProcessor.QueuedAnimation[] stages = this.lastModel.getAnimationProcessor().getAnimationStages(this.animatable, rawAnimation);
 
-				if (animations != null) {
-					this.animationQueue = animations;
+				if (stages != null) {
+					this.animationStages = stages;
+					this.animationStageIndex = 0;
 					this.currentRawAnimation = rawAnimation;
 					this.shouldResetTick = true;
 					this.animationState = State.TRANSITIONING;
@@ -364,6 +518,7 @@ public class AnimationController<T extends GeoAnimatable> {
 			return false;
 
 		this.triggeredAnimation = anim;
+		this.sleeping = false;
 
 		if (this.animationState == State.STOPPED) {
 			this.animationState = State.TRANSITIONING;
@@ -374,6 +529,14 @@ public class AnimationController<T extends GeoAnimatable> {
 		return true;
 	}
 
+	/**
+	 * Set the {@link AnimatableManager} this controller has been added to, so that it can be notified of newly registered triggerable animations
+	 * @param manager The owning manager, or null if the controller has been removed from its manager
+	 */
+	void setManager(AnimatableManager<T> manager) {
+		this.manager = manager;
+	}
+
 	/**
 	 * Handle a given AnimationState, alongside the current triggered animation if applicable
 	 */
@@ -394,20 +557,30 @@ public class AnimationController<T extends GeoAnimatable> {
 		return this.stateHandler.handle(state);
 	}
 
+	/**
+	 * @deprecated The bones are now resolved from the model's {@link AnimationBinding AnimationBindings}, so the {@code bones} map is unused.
+	 * Use {@link AnimationController#process(CoreGeoModel, AnimationState, BoneSnapshot[], double, boolean)} instead
+	 */
+	@Deprecated
+	public void process(CoreGeoModel<T> model, AnimationState<T> state, Map<String, CoreGeoBone> bones, BoneSnapshot[] snapshots, final double seekTime, boolean crashWhenCantFindBone) {
+		process(model, state, snapshots, seekTime, crashWhenCantFindBone);
+	}
+
 	/**
 	 * This method is called every frame in order to populate the animation point
 	 * queues, and process animation state logic.
 	 *
 	 * @param model					The model currently being processed
 	 * @param state                 The animation test state
-	 * @param bones                 The registered {@link CoreGeoBone bones} for this model
-	 * @param snapshots             The {@link BoneSnapshot} map
+	 * @param snapshots             The master {@link BoneSnapshot} array, indexed by {@link CoreGeoBone#getIndex() bone index}
 	 * @param seekTime              The current tick + partial tick
 	 * @param crashWhenCantFindBone Whether to hard-fail when a bone can't be found, or to continue with the remaining bones
 	 */
-	public void process(CoreGeoModel<T> model, AnimationState<T> state, Map<String, CoreGeoBone> bones, Map<String, BoneSnapshot> snapshots, final double seekTime, boolean crashWhenCantFindBone) {
+	public void process(CoreGeoModel<T> model, AnimationState<T> state, BoneSnapshot[] snapshots, final double seekTime, boolean crashWhenCantFindBone) {
+		this.animationSpeed = getAnimationSpeed();
 		double adjustedTick = adjustTick(seekTime);
 		this.lastModel = model;
+		this.deferredBinding = null;
 
 		if (animationState == State.TRANSITIONING && adjustedTick >= this.transitionLength) {
 			this.shouldResetTick = true;
@@ -416,15 +589,16 @@ public class AnimationController<T extends GeoAnimatable> {
 		}
 
 		PlayState playState = handleAnimationState(state);
+		this.easingOverride = this.overrideEasingTypeFunction.apply(this.animatable);
 
-		if (playState == PlayState.STOP || (this.currentAnimation == null && this.animationQueue.isEmpty())) {
+		if (playState == PlayState.STOP || (this.currentAnimation == null && this.animationStageIndex >= this.animationStages.length)) {
 			this.animationState = State.STOPPED;
 			this.justStopped = true;
 
 			return;
 		}
 
-		createInitialQueues(bones.values());
+		createInitialQueues(model.getAnimationProcessor());
 
 		if (this.justStartedTransition && (this.shouldResetTick || this.justStopped)) {
 			this.justStopped = false;
@@ -445,35 +619,42 @@ public class AnimationController<T extends GeoAnimatable> {
 		}
 
 		if (getAnimationState() == State.RUNNING) {
-			processCurrentAnimation(adjustedTick, seekTime, crashWhenCantFindBone);
+			processCurrentAnimation(model.getAnimationProcessor(), adjustedTick, seekTime, crashWhenCantFindBone);
 		}
 		else if (this.animationState == State.TRANSITIONING) {
 			if (adjustedTick == 0 || this.isJustStarting) {
 				this.justStartedTransition = false;
-				this.currentAnimation = this.animationQueue.poll();
+				this.currentAnimation = pollAnimationStage();
 
 				resetEventKeyFrames();
 
 				if (this.currentAnimation == null)
 					return;
 
-				saveSnapshotsForAnimation(this.currentAnimation, snapshots);
+				saveSnapshotsForAnimation(model.getAnimationProcessor(), this.currentAnimation, snapshots);
 			}
 
 			if (this.currentAnimation != null) {
-				MolangParser.INSTANCE.setValue(MolangQueries.ANIM_TIME, () -> 0);
+				MolangParser.INSTANCE.setValue(MolangQueries.Slots.ANIM_TIME, 0);
 
-				for (BoneAnimation boneAnimation : this.currentAnimation.animation().boneAnimations()) {
-					BoneAnimationQueue boneAnimationQueue = this.boneAnimationQueues.get(boneAnimation.boneName());
-					BoneSnapshot boneSnapshot = this.boneSnapshots.get(boneAnimation.boneName());
-					CoreGeoBone bone = bones.get(boneAnimation.boneName());
+				AnimationBinding binding = getAnimationBinding(model.getAnimationProcessor(), this.currentAnimation.animation(), crashWhenCantFindBone);
+				BoneAnimation[] boneAnimations = this.currentAnimation.animation().boneAnimations();
+				int[] boneIndices = binding.boneIndices();
 
-					if (bone == null) {
-						if (crashWhenCantFindBone)
-							throw new RuntimeException("Could not find bone: " + boneAnimation.boneName());
+				for (int i = 0; i < boneAnimations.length; i++) {
+					int boneIndex = boneIndices[i];
 
+					if (boneIndex < 0)
+						continue;
+
+					BoneAnimationQueue boneAnimationQueue = this.indexedBoneAnimationQueues[boneIndex];
+
+					if (boneAnimationQueue == null)
 						continue;
-					}
+
+					BoneAnimation boneAnimation = boneAnimations[i];
+					CoreGeoBone bone = boneAnimationQueue.bone();
+					BoneSnapshot boneSnapshot = getSavedSnapshot(boneIndex, snapshots);
 
 					KeyframeStack<Keyframe<IValue>> rotationKeyFrames = boneAnimation.rotationKeyFrames();
 					KeyframeStack<Keyframe<IValue>> positionKeyFrames = boneAnimation.positionKeyFrames();
@@ -481,23 +662,23 @@ public class AnimationController<T extends GeoAnimatable> {
 
 					if (!rotationKeyFrames.xKeyframes().isEmpty()) {
 						boneAnimationQueue.addNextRotation(null, adjustedTick, this.transitionLength, boneSnapshot, bone.getInitialSnapshot(),
-								getAnimationPointAtTick(rotationKeyFrames.xKeyframes(), 0, true, Axis.X),
-								getAnimationPointAtTick(rotationKeyFrames.yKeyframes(), 0, true, Axis.Y),
-								getAnimationPointAtTick(rotationKeyFrames.zKeyframes(), 0, true, Axis.Z));
+								getAnimationPointAtTick(rotationKeyFrames.xKeyframes(), rotationKeyFrames.xStartTimes(), i * 9 + 0, 0, true, Axis.X, boneAnimationQueue.rotationXQueue().obtain()),
+								getAnimationPointAtTick(rotationKeyFrames.yKeyframes(), rotationKeyFrames.yStartTimes(), i * 9 + 1, 0, true, Axis.Y, boneAnimationQueue.rotationYQueue().obtain()),
+								getAnimationPointAtTick(rotationKeyFrames.zKeyframes(), rotationKeyFrames.zStartTimes(), i * 9 + 2, 0, true, Axis.Z, boneAnimationQueue.rotationZQueue().obtain()));
 					}
 
 					if (!positionKeyFrames.xKeyframes().isEmpty()) {
 						boneAnimationQueue.addNextPosition(null, adjustedTick, this.transitionLength, boneSnapshot,
-								getAnimationPointAtTick(positionKeyFrames.xKeyframes(), 0, false, Axis.X),
-								getAnimationPointAtTick(positionKeyFrames.yKeyframes(), 0, false, Axis.Y),
-								getAnimationPointAtTick(positionKeyFrames.zKeyframes(), 0, false, Axis.Z));
+								getAnimationPointAtTick(positionKeyFrames.xKeyframes(), positionKeyFrames.xStartTimes(), i * 9 + 3, 0, false, Axis.X, boneAnimationQueue.positionXQueue().obtain()),
+								getAnimationPointAtTick(positionKeyFrames.yKeyframes(), positionKeyFrames.yStartTimes(), i * 9 + 4, 0, false, Axis.Y, boneAnimationQueue.positionYQueue().obtain()),
+								getAnimationPointAtTick(positionKeyFrames.zKeyframes(), positionKeyFrames.zStartTimes(), i * 9 + 5, 0, false, Axis.Z, boneAnimationQueue.positionZQueue().obtain()));
 					}
 
 					if (!scaleKeyFrames.xKeyframes().isEmpty()) {
 						boneAnimationQueue.addNextScale(null, adjustedTick, this.transitionLength, boneSnapshot,
-								getAnimationPointAtTick(scaleKeyFrames.xKeyframes(), 0, false, Axis.X),
-								getAnimationPointAtTick(scaleKeyFrames.yKeyframes(), 0, false, Axis.Y),
-								getAnimationPointAtTick(scaleKeyFrames.zKeyframes(), 0, false, Axis.Z));
+								getAnimationPointAtTick(scaleKeyFrames.xKeyframes(), scaleKeyFrames.xStartTimes(), i * 9 + 6, 0, false, Axis.X, boneAnimationQueue.scaleXQueue().obtain()),
+								getAnimationPointAtTick(scaleKeyFrames.yKeyframes(), scaleKeyFrames.yStartTimes(), i * 9 + 7, 0, false, Axis.Y, boneAnimationQueue.scaleYQueue().obtain()),
+								getAnimationPointAtTick(scaleKeyFrames.zKeyframes(), scaleKeyFrames.zStartTimes(), i * 9 + 8, 0, false, Axis.Z, boneAnimationQueue.scaleZQueue().obtain()));
 					}
 				}
 			}
@@ -506,11 +687,12 @@ public class AnimationController<T extends GeoAnimatable> {
 
 	/**
 	 * Handle the current animation's state modifications and translations
+	 * @param processor The {@link AnimationProcessor} holding the currently registered bones
 	 * @param adjustedTick The controller-adjusted tick for animation purposes
 	 * @param seekTime The lerped tick (current tick + partial tick)
 	 * @param crashWhenCantFindBone Whether the controller should throw an exception when unable to find the required bone, or continue with the remaining bones
 	 */
-	private void processCurrentAnimation(double adjustedTick, double seekTime, boolean crashWhenCantFindBone) {
+	private void processCurrentAnimation(AnimationProcessor<T> processor, double adjustedTick, double seekTime, boolean crashWhenCantFindBone) {
 		if (adjustedTick >= this.currentAnimation.animation().length()) {
 			if (this.currentAnimation.loopType().shouldPlayAgain(this.animatable, this, this.currentAnimation.animation())) {
 				if (this.animationState != State.PAUSED) {
@@ -521,7 +703,7 @@ public class AnimationController<T extends GeoAnimatable> {
 				}
 			}
 			else {
-				AnimationProcessor.QueuedAnimation nextAnimation = this.animationQueue.peek();
+				AnimationProcessor.QueuedAnimation nextAnimation = peekAnimationStage();
 
 				resetEventKeyFrames();
 
@@ -538,129 +720,432 @@ public class AnimationController<T extends GeoAnimatable> {
 			}
 		}
 
-		final double finalAdjustedTick = adjustedTick;
+		MolangParser.INSTANCE.setValue(MolangQueries.Slots.ANIM_TIME, adjustedTick / 20d);
+
+		AnimationBinding binding = getAnimationBinding(processor, this.currentAnimation.animation(), crashWhenCantFindBone);
+
+		if (this.sharedPoseInterval > 0 && this.easingOverride == null && binding.fullySampled() && (this.animationState == State.RUNNING || this.animationState == State.PAUSED)) {
+			this.deferredBinding = binding;
+			this.deferredPhase = (long)Math.floor(adjustedTick / this.sharedPoseInterval);
+		}
+		else {
+			evaluateBoneAnimations(binding, adjustedTick, this.easingOverride);
+		}
+
+		adjustedTick += this.transitionLength;
+
+		Animation.Keyframes keyFrames = this.currentAnimation.animation().keyFrames();
+
+		if (this.eventKeyframeAnimation != this.currentAnimation.animation()) {
+			this.eventKeyframeAnimation = this.currentAnimation.animation();
 
-		MolangParser.INSTANCE.setMemoizedValue(MolangQueries.ANIM_TIME, () -> finalAdjustedTick / 20d);
+			resetEventKeyFrames();
+		}
 
-		for (BoneAnimation boneAnimation : this.currentAnimation.animation().boneAnimations()) {
-			BoneAnimationQueue boneAnimationQueue = this.boneAnimationQueues.get(boneAnimation.boneName());
+		SoundKeyframeData[] sounds = keyFrames.sounds();
 
-			if (boneAnimationQueue == null) {
-				if (crashWhenCantFindBone)
-					throw new RuntimeException("Could not find bone: " + boneAnimation.boneName());
+		while (this.soundKeyframeCursor < sounds.length && adjustedTick >= sounds[this.soundKeyframeCursor].getStartTick()) {
+			SoundKeyframeData keyframeData = sounds[this.soundKeyframeCursor++];
 
-				continue;
+			if (this.soundKeyframeHandler == null) {
+				AnimationDiagnostics.report(AnimationDiagnostics.Issue.MISSING_SOUND_KEYFRAME_HANDLER, this.animatable.getClass(), getName());
+
+				break;
 			}
 
+			this.soundKeyframeHandler.handle(new SoundKeyframeEvent<>(this.animatable, adjustedTick, this, keyframeData));
+		}
+
+		ParticleKeyframeData[] particles = keyFrames.particles();
+
+		while (this.particleKeyframeCursor < particles.length && adjustedTick >= particles[this.particleKeyframeCursor].getStartTick()) {
+			ParticleKeyframeData keyframeData = particles[this.particleKeyframeCursor++];
+
+			if (this.particleKeyframeHandler == null) {
+				AnimationDiagnostics.report(AnimationDiagnostics.Issue.MISSING_PARTICLE_KEYFRAME_HANDLER, this.animatable.getClass(), getName());
+
+				break;
+			}
+
+			this.particleKeyframeHandler.handle(new ParticleKeyframeEvent<>(this.animatable, adjustedTick, this, keyframeData));
+		}
+
+		CustomInstructionKeyframeData[] customInstructions = keyFrames.customInstructions();
+
+		while (this.customKeyframeCursor < customInstructions.length && adjustedTick >= customInstructions[this.customKeyframeCursor].getStartTick()) {
+			CustomInstructionKeyframeData keyframeData = customInstructions[this.customKeyframeCursor++];
+
+			if (this.customKeyframeHandler == null) {
+				AnimationDiagnostics.report(AnimationDiagnostics.Issue.MISSING_CUSTOM_KEYFRAME_HANDLER, this.animatable.getClass(), getName());
+
+				break;
+			}
+
+			this.customKeyframeHandler.handle(new CustomInstructionKeyframeEvent<>(this.animatable, adjustedTick, this, keyframeData));
+		}
+
+		if (this.transitionLength == 0 && this.shouldResetTick && this.animationState == State.TRANSITIONING)
+			this.currentAnimation = pollAnimationStage();
+	}
+
+	/**
+	 * Evaluate the current animation's keyframes for each of its bound bones, adding the resulting points to this controller's {@link BoneAnimationQueue BoneAnimationQueues}
+	 * @param binding The {@link AnimationBinding} for the current animation
+	 * @param adjustedTick The controller-adjusted tick to evaluate the keyframes at
+	 * @param easingOverride The {@link EasingType} override for this controller, or null if none
+	 */
+	private void evaluateBoneAnimations(AnimationBinding binding, double adjustedTick, EasingType easingOverride) {
+		BoneAnimation[] boneAnimations = binding.animation().boneAnimations();
+		int[] boneIndices = binding.boneIndices();
+
+		for (int i = 0; i < boneAnimations.length; i++) {
+			int boneIndex = boneIndices[i];
+
+			if (boneIndex < 0)
+				continue;
+
+			BoneAnimationQueue boneAnimationQueue = this.indexedBoneAnimationQueues[boneIndex];
+
+			if (boneAnimationQueue == null)
+				continue;
+
+			BoneAnimation boneAnimation = boneAnimations[i];
+
 			KeyframeStack<Keyframe<IValue>> rotationKeyFrames = boneAnimation.rotationKeyFrames();
 			KeyframeStack<Keyframe<IValue>> positionKeyFrames = boneAnimation.positionKeyFrames();
 			KeyframeStack<Keyframe<IValue>> scaleKeyFrames = boneAnimation.scaleKeyFrames();
 
 			if (!rotationKeyFrames.xKeyframes().isEmpty()) {
-				boneAnimationQueue.addRotations(
-						getAnimationPointAtTick(rotationKeyFrames.xKeyframes(), adjustedTick, true, Axis.X),
-						getAnimationPointAtTick(rotationKeyFrames.yKeyframes(), adjustedTick, true, Axis.Y),
-						getAnimationPointAtTick(rotationKeyFrames.zKeyframes(), adjustedTick, true, Axis.Z));
+				if (rotationKeyFrames.samples() != null && easingOverride == null) {
+					boneAnimationQueue.addRotations(
+							getSampledAnimationPoint(rotationKeyFrames.samples(), 0, adjustedTick, boneAnimationQueue.rotationXQueue().obtain()),
+							getSampledAnimationPoint(rotationKeyFrames.samples(), 1, adjustedTick, boneAnimationQueue.rotationYQueue().obtain()),
+							getSampledAnimationPoint(rotationKeyFrames.samples(), 2, adjustedTick, boneAnimationQueue.rotationZQueue().obtain()));
+				}
+				else {
+					boneAnimationQueue.addRotations(
+							getAnimationPointAtTick(rotationKeyFrames.xKeyframes(), rotationKeyFrames.xStartTimes(), i * 9 + 0, adjustedTick, true, Axis.X, boneAnimationQueue.rotationXQueue().obtain()),
+							getAnimationPointAtTick(rotationKeyFrames.yKeyframes(), rotationKeyFrames.yStartTimes(), i * 9 + 1, adjustedTick, true, Axis.Y, boneAnimationQueue.rotationYQueue().obtain()),
+							getAnimationPointAtTick(rotationKeyFrames.zKeyframes(), rotationKeyFrames.zStartTimes(), i * 9 + 2, adjustedTick, true, Axis.Z, boneAnimationQueue.rotationZQueue().obtain()));
+				}
 			}
 
 			if (!positionKeyFrames.xKeyframes().isEmpty()) {
-				boneAnimationQueue.addPositions(
-						getAnimationPointAtTick(positionKeyFrames.xKeyframes(), adjustedTick, false, Axis.X),
-						getAnimationPointAtTick(positionKeyFrames.yKeyframes(), adjustedTick, false, Axis.Y),
-						getAnimationPointAtTick(positionKeyFrames.zKeyframes(), adjustedTick, false, Axis.Z));
+				if (positionKeyFrames.samples() != null && easingOverride == null) {
+					boneAnimationQueue.addPositions(
+							getSampledAnimationPoint(positionKeyFrames.samples(), 0, adjustedTick, boneAnimationQueue.positionXQueue().obtain()),
+							getSampledAnimationPoint(positionKeyFrames.samples(), 1, adjustedTick, boneAnimationQueue.positionYQueue().obtain()),
+							getSampledAnimationPoint(positionKeyFrames.samples(), 2, adjustedTick, boneAnimationQueue.positionZQueue().obtain()));
+				}
+				else {
+					boneAnimationQueue.addPositions(
+							getAnimationPointAtTick(positionKeyFrames.xKeyframes(), positionKeyFrames.xStartTimes(), i * 9 + 3, adjustedTick, false, Axis.X, boneAnimationQueue.positionXQueue().obtain()),
+							getAnimationPointAtTick(positionKeyFrames.yKeyframes(), positionKeyFrames.yStartTimes(), i * 9 + 4, adjustedTick, false, Axis.Y, boneAnimationQueue.positionYQueue().obtain()),
+							getAnimationPointAtTick(positionKeyFrames.zKeyframes(), positionKeyFrames.zStartTimes(), i * 9 + 5, adjustedTick, false, Axis.Z, boneAnimationQueue.positionZQueue().obtain()));
+				}
 			}
 
 			if (!scaleKeyFrames.xKeyframes().isEmpty()) {
-				boneAnimationQueue.addScales(
-						getAnimationPointAtTick(scaleKeyFrames.xKeyframes(), adjustedTick, false, Axis.X),
-						getAnimationPointAtTick(scaleKeyFrames.yKeyframes(), adjustedTick, false, Axis.Y),
-						getAnimationPointAtTick(scaleKeyFrames.zKeyframes(), adjustedTick, false, Axis.Z));
+				if (scaleKeyFrames.samples() != null && easingOverride == null) {
+					boneAnimationQueue.addScales(
+							getSampledAnimationPoint(scaleKeyFrames.samples(), 0, adjustedTick, boneAnimationQueue.scaleXQueue().obtain()),
+							getSampledAnimationPoint(scaleKeyFrames.samples(), 1, adjustedTick, boneAnimationQueue.scaleYQueue().obtain()),
+							getSampledAnimationPoint(scaleKeyFrames.samples(), 2, adjustedTick, boneAnimationQueue.scaleZQueue().obtain()));
+				}
+				else {
+					boneAnimationQueue.addScales(
+							getAnimationPointAtTick(scaleKeyFrames.xKeyframes(), scaleKeyFrames.xStartTimes(), i * 9 + 6, adjustedTick, false, Axis.X, boneAnimationQueue.scaleXQueue().obtain()),
+							getAnimationPointAtTick(scaleKeyFrames.yKeyframes(), scaleKeyFrames.yStartTimes(), i * 9 + 7, adjustedTick, false, Axis.Y, boneAnimationQueue.scaleYQueue().obtain()),
+							getAnimationPointAtTick(scaleKeyFrames.zKeyframes(), scaleKeyFrames.zStartTimes(), i * 9 + 8, adjustedTick, false, Axis.Z, boneAnimationQueue.scaleZQueue().obtain()));
+				}
 			}
 		}
+	}
 
-		adjustedTick += this.transitionLength;
+	/**
+	 * Evaluate the keyframes deferred by this controller's last {@link AnimationController#process process} call at its quantised animation time.<br>
+	 * Called when no {@link SharedPoseCache shared pose} could be used for the frame
+	 */
+	protected void evaluateDeferredBoneAnimations() {
+		if (this.deferredBinding == null)
+			return;
 
-		for (SoundKeyframeData keyframeData : this.currentAnimation.animation().keyFrames().sounds()) {
-			if (adjustedTick >= keyframeData.getStartTick() && this.executedKeyFrames.add(keyframeData)) {
-				if (this.soundKeyframeHandler == null) {
-					System.out.println("Sound Keyframe found for " + this.animatable.getClass().getSimpleName() + " -> " + getName() + ", but no keyframe handler registered");
+		evaluateBoneAnimations(this.deferredBinding, this.deferredPhase * this.sharedPoseInterval, null);
 
-					break;
-				}
+		this.deferredBinding = null;
+	}
 
-				this.soundKeyframeHandler.handle(new SoundKeyframeEvent<>(this.animatable, adjustedTick, this, keyframeData));
-			}
-		}
+	/**
+	 * Prepare the {@link BoneAnimationQueue} storage for the current render frame.<br>
+	 * Queues are only held for the bones in this controller's bone mask, and are otherwise reset and re-used between frames.<br>
+	 * If the controller has an explicit {@link AnimationController#setBoneMask bone mask}, its queues are built here when the active model changes.
+	 * Otherwise, queues are added as the controller's animations are bound to the model
+	 * @param processor The {@link AnimationProcessor} holding the currently registered bones
+	 */
+	private void createInitialQueues(AnimationProcessor<T> processor) {
+		int boneCount = processor.getBoneCount();
 
-		for (ParticleKeyframeData keyframeData : this.currentAnimation.animation().keyFrames().particles()) {
-			if (adjustedTick >= keyframeData.getStartTick() && this.executedKeyFrames.add(keyframeData)) {
-				if (this.particleKeyframeHandler == null) {
-					System.out.println("Particle Keyframe found for " + this.animatable.getClass().getSimpleName() + " -> " + getName() + ", but no keyframe handler registered");
+		if (processor.getActiveModel() != this.queuedModel || this.boneAnimationQueues.size() != this.activeBoneAnimationQueueCount || this.indexedBoneAnimationQueues.length != boneCount) {
+			this.boneAnimationQueues.clear();
+			this.indexedBoneAnimationQueues = new BoneAnimationQueue[boneCount];
+			this.activeBoneAnimationQueueCount = 0;
+			this.currentBinding = null;
 
-					break;
-				}
+			if (this.boneMask != null) {
+				for (String boneName : this.boneMask) {
+					CoreGeoBone bone = processor.getBone(boneName);
 
-				this.particleKeyframeHandler.handle(new ParticleKeyframeEvent<>(this.animatable, adjustedTick, this, keyframeData));
+					if (bone != null)
+						addBoneAnimationQueue(bone);
+				}
 			}
+
+			this.queuedModel = processor.getActiveModel();
+
+			return;
 		}
 
-		for (CustomInstructionKeyframeData keyframeData : this.currentAnimation.animation().keyFrames().customInstructions()) {
-			if (adjustedTick >= keyframeData.getStartTick() && this.executedKeyFrames.add(keyframeData)) {
-				if (this.customKeyframeHandler == null) {
-					System.out.println("Custom Instruction Keyframe found for " + this.animatable.getClass().getSimpleName() + " -> " + getName() + ", but no keyframe handler registered");
+		for (int i = 0; i < this.activeBoneAnimationQueueCount; i++) {
+			this.activeBoneAnimationQueues[i].reset();
+		}
+	}
 
-					break;
-				}
+	/**
+	 * Get the next stage of the currently loaded {@link RawAnimation} without advancing this controller's stage cursor
+	 * @return The next stage, or null if there are no stages remaining
+	 */
+	private AnimationProcessor.QueuedAnimation peekAnimationStage() {
+		return this.animationStageIndex < this.animationStages.length ? this.animationStages[this.animationStageIndex] : null;
+	}
 
-				this.customKeyframeHandler.handle(new CustomInstructionKeyframeEvent<>(this.animatable, adjustedTick, this, keyframeData));
-			}
+	/**
+	 * Get the next stage of the currently loaded {@link RawAnimation}, advancing this controller's stage cursor past it
+	 * @return The next stage, or null if there are no stages remaining
+	 */
+	private AnimationProcessor.QueuedAnimation pollAnimationStage() {
+		return this.animationStageIndex < this.animationStages.length ? this.animationStages[this.animationStageIndex++] : null;
+	}
+
+	/**
+	 * Get the animation deferred by this controller's last {@link AnimationController#process process} call for {@link SharedPoseCache pose sharing}
+	 * @return The deferred animation, or null if the controller evaluated its keyframes as normal
+	 */
+	protected Animation getDeferredAnimation() {
+		return this.deferredBinding == null ? null : this.deferredBinding.animation();
+	}
+
+	/**
+	 * Get the quantised animation time of the animation deferred by this controller's last {@link AnimationController#process process} call
+	 */
+	protected long getDeferredPhase() {
+		return this.deferredPhase;
+	}
+
+	/**
+	 * Discard any evaluation deferred by this controller, such as when a shared pose has been applied in its place
+	 */
+	protected void clearDeferredBoneAnimations() {
+		this.deferredBinding = null;
+	}
+
+	/**
+	 * Check whether this controller should remain asleep for the current render frame, waking it if not.<br>
+	 * Sleeping controllers are woken if the active model has changed since they fell asleep, or if their wake condition is met
+	 * @param processor The {@link AnimationProcessor} holding the currently registered bones
+	 * @return Whether the controller is still asleep
+	 */
+	protected boolean stayAsleep(AnimationProcessor<T> processor) {
+		if (!this.sleeping)
+			return false;
+
+		if (processor.getActiveModel() != this.queuedModel || this.boneAnimationQueues.size() != this.activeBoneAnimationQueueCount || this.wakeCondition.test(this.animatable))
+			this.sleeping = false;
+
+		return this.sleeping;
+	}
+
+	/**
+	 * Put this controller to sleep if it is allowed to and is currently idle.<br>
+	 * If it falls asleep, the pose applied from this frame's {@link BoneAnimationQueue BoneAnimationQueues} should then be saved via {@link AnimationController#holdPose}
+	 * @return Whether the controller fell asleep
+	 */
+	protected boolean tryFallAsleep() {
+		if (this.wakeCondition == null || (this.animationState != State.STOPPED && this.animationState != State.PAUSED))
+			return false;
+
+		if (this.heldPoseChannels.length < this.activeBoneAnimationQueueCount) {
+			this.heldPose = new float[this.activeBoneAnimationQueueCount * 9];
+			this.heldPoseChannels = new byte[this.activeBoneAnimationQueueCount];
+		}
+		else {
+			Arrays.fill(this.heldPoseChannels, (byte)0);
 		}
 
-		if (this.transitionLength == 0 && this.shouldResetTick && this.animationState == State.TRANSITIONING)
-			this.currentAnimation = this.animationQueue.poll();
+		this.sleeping = true;
+
+		return true;
 	}
 
 	/**
-	 * Prepare the {@link BoneAnimationQueue} map for the current render frame
-	 * @param modelRendererList The bone list from the {@link AnimationProcessor}
+	 * Save the current pose of the bone for the given {@link BoneAnimationQueue} to be re-applied while this controller is asleep
+	 * @param queueIndex The index of the bone's queue in this controller's active queues
+	 * @param rotation Whether this controller applied a rotation to the bone
+	 * @param position Whether this controller applied a position to the bone
+	 * @param scale Whether this controller applied a scale to the bone
 	 */
-	private void createInitialQueues(Collection<CoreGeoBone> modelRendererList) {
-		this.boneAnimationQueues.clear();
+	protected void holdPose(int queueIndex, boolean rotation, boolean position, boolean scale) {
+		CoreGeoBone bone = this.activeBoneAnimationQueues[queueIndex].bone();
+		int offset = queueIndex * 9;
+
+		this.heldPose[offset] = bone.getRotX();
+		this.heldPose[offset + 1] = bone.getRotY();
+		this.heldPose[offset + 2] = bone.getRotZ();
+		this.heldPose[offset + 3] = bone.getPosX();
+		this.heldPose[offset + 4] = bone.getPosY();
+		this.heldPose[offset + 5] = bone.getPosZ();
+		this.heldPose[offset + 6] = bone.getScaleX();
+		this.heldPose[offset + 7] = bone.getScaleY();
+		this.heldPose[offset + 8] = bone.getScaleZ();
+		this.heldPoseChannels[queueIndex] = (byte)((rotation ? 1 : 0) | (position ? 2 : 0) | (scale ? 4 : 0));
+	}
 
-		for (CoreGeoBone modelRenderer : modelRendererList) {
-			this.boneAnimationQueues.put(modelRenderer.getName(), new BoneAnimationQueue(modelRenderer));
+	/**
+	 * Re-apply the pose held by this controller since it fell asleep
+	 * @param snapshots The master {@link BoneSnapshot} array, indexed by {@link CoreGeoBone#getIndex() bone index}
+	 */
+	protected void applyHeldPose(BoneSnapshot[] snapshots) {
+		for (int i = 0; i < this.activeBoneAnimationQueueCount; i++) {
+			int channels = this.heldPoseChannels[i];
+
+			if (channels == 0)
+				continue;
+
+			CoreGeoBone bone = this.activeBoneAnimationQueues[i].bone();
+			BoneSnapshot snapshot = snapshots[bone.getIndex()];
+			int offset = i * 9;
+
+			if ((channels & 1) != 0) {
+				bone.setRotX(this.heldPose[offset]);
+				bone.setRotY(this.heldPose[offset + 1]);
+				bone.setRotZ(this.heldPose[offset + 2]);
+				snapshot.updateRotation(bone.getRotX(), bone.getRotY(), bone.getRotZ());
+				snapshot.startRotAnim();
+				bone.markRotationAsChanged();
+			}
+
+			if ((channels & 2) != 0) {
+				bone.setPosX(this.heldPose[offset + 3]);
+				bone.setPosY(this.heldPose[offset + 4]);
+				bone.setPosZ(this.heldPose[offset + 5]);
+				snapshot.updateOffset(bone.getPosX(), bone.getPosY(), bone.getPosZ());
+				snapshot.startPosAnim();
+				bone.markPositionAsChanged();
+			}
+
+			if ((channels & 4) != 0) {
+				bone.setScaleX(this.heldPose[offset + 6]);
+				bone.setScaleY(this.heldPose[offset + 7]);
+				bone.setScaleZ(this.heldPose[offset + 8]);
+				snapshot.updateScale(bone.getScaleX(), bone.getScaleY(), bone.getScaleZ());
+				snapshot.startScaleAnim();
+				bone.markScaleAsChanged();
+			}
 		}
 	}
 
+	/**
+	 * Add a {@link BoneAnimationQueue} for the given bone to this controller's bone mask
+	 * @param bone The bone to add
+	 */
+	private void addBoneAnimationQueue(CoreGeoBone bone) {
+		BoneAnimationQueue boneAnimationQueue = new BoneAnimationQueue(bone);
+
+		if (this.activeBoneAnimationQueueCount == this.activeBoneAnimationQueues.length)
+			this.activeBoneAnimationQueues = Arrays.copyOf(this.activeBoneAnimationQueues, Math.max(4, this.activeBoneAnimationQueueCount * 2));
+
+		this.activeBoneAnimationQueues[this.activeBoneAnimationQueueCount++] = boneAnimationQueue;
+		this.indexedBoneAnimationQueues[bone.getIndex()] = boneAnimationQueue;
+		this.boneAnimationQueues.put(bone.getName(), boneAnimationQueue);
+	}
+
 	/**
 	 * Cache the relevant {@link BoneSnapshot BoneSnapshots} for the current {@link software.bernie.geckolib.core.animation.AnimationProcessor.QueuedAnimation}
 	 * for animation lerping
+	 * @param processor The {@link AnimationProcessor} holding the currently registered bones
 	 * @param animation The {@code QueuedAnimation} to filter {@code BoneSnapshots} for
-	 * @param snapshots The master snapshot collection to pull filter from
+	 * @param snapshots The master snapshot array to pull filter from
 	 */
-	private void saveSnapshotsForAnimation(AnimationProcessor.QueuedAnimation animation, Map<String, BoneSnapshot> snapshots) {
-		for (BoneSnapshot snapshot : snapshots.values()) {
-			if (animation.animation().boneAnimations() != null) {
-				for (BoneAnimation boneAnimation : animation.animation().boneAnimations()) {
-					if (boneAnimation.boneName().equals(snapshot.getBone().getName())) {
-						this.boneSnapshots.put(boneAnimation.boneName(), BoneSnapshot.copy(snapshot));
+	private void saveSnapshotsForAnimation(AnimationProcessor<T> processor, AnimationProcessor.QueuedAnimation animation, BoneSnapshot[] snapshots) {
+		if (animation.animation().boneAnimations() == null)
+			return;
 
-						break;
-					}
+		if (this.indexedBoneSnapshots.length < snapshots.length)
+			this.indexedBoneSnapshots = Arrays.copyOf(this.indexedBoneSnapshots, snapshots.length);
+
+		for (int boneIndex : processor.getAnimationBinding(animation.animation()).boneIndices()) {
+			if (boneIndex >= 0 && snapshots[boneIndex] != null) {
+				BoneSnapshot snapshot = BoneSnapshot.copy(snapshots[boneIndex]);
+
+				this.indexedBoneSnapshots[boneIndex] = snapshot;
+				this.boneSnapshots.put(snapshot.getBone().getName(), snapshot);
+			}
+		}
+	}
+
+	/**
+	 * Get the {@link AnimationBinding} for the given {@link Animation}, re-using this controller's last binding where possible.<br>
+	 * The controller's keyframe cursors are reset whenever the binding changes, and any newly bound bones are added to the controller's bone mask if it doesn't have an explicit one
+	 * @param processor The {@link AnimationProcessor} holding the currently registered bones
+	 * @param animation The animation to get the binding for
+	 * @param crashWhenCantFindBone Whether to throw an exception if the animation references a bone the model doesn't have
+	 */
+	private AnimationBinding getAnimationBinding(AnimationProcessor<T> processor, Animation animation, boolean crashWhenCantFindBone) {
+		AnimationBinding binding = this.currentBinding;
+
+		if (binding == null || binding.animation() != animation || binding.model() != processor.getActiveModel()) {
+			binding = processor.getAnimationBinding(animation);
+			this.currentBinding = binding;
+
+			if (this.boneMask == null) {
+				for (int boneIndex : binding.boneIndices()) {
+					if (boneIndex >= 0 && this.indexedBoneAnimationQueues[boneIndex] == null)
+						addBoneAnimationQueue(processor.getBone(boneIndex));
 				}
 			}
+
+			if (this.keyframeCursors.length < animation.boneAnimations().length * 9) {
+				this.keyframeCursors = new int[animation.boneAnimations().length * 9];
+			}
+			else {
+				Arrays.fill(this.keyframeCursors, 0);
+			}
 		}
+
+		if (crashWhenCantFindBone && binding.hasMissingBones())
+			throw new RuntimeException("Could not find bone: " + binding.missingBones()[0]);
+
+		return binding;
+	}
+
+	/**
+	 * Get the {@link BoneSnapshot} saved by this controller for the given bone index at the start of the current animation,
+	 * falling back to the master snapshot if none was saved
+	 */
+	private BoneSnapshot getSavedSnapshot(int boneIndex, BoneSnapshot[] snapshots) {
+		BoneSnapshot snapshot = boneIndex < this.indexedBoneSnapshots.length ? this.indexedBoneSnapshots[boneIndex] : null;
+
+		return snapshot != null ? snapshot : snapshots[boneIndex];
 	}
 
 	/**
 	 * Adjust a tick value depending on the controller's current state and speed modifier.<br>
 	 * Is used when starting a new animation, transitioning, and a few other key areas
 	 * @param tick The currently used tick value
-	 * @return 0 if {@link AnimationController#shouldResetTick} is set to false, or a {@link AnimationController#animationSpeedModifier} modified value otherwise
+	 * @return 0 if {@link AnimationController#shouldResetTick} is set to false, or a value modified by this frame's {@link AnimationController#animationSpeed} otherwise
 	 */
 	protected double adjustTick(double tick) {
 		if (!this.shouldResetTick)
-			return this.animationSpeedModifier.apply(this.animatable) * Math.max(tick - this.tickOffset, 0);
+			return this.animationSpeed * Math.max(tick - this.tickOffset, 0);
 
 		if (getAnimationState() != State.STOPPED)
 			this.tickOffset = tick;
@@ -671,12 +1156,26 @@ public class AnimationController<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Convert a {@link KeyframeLocation} to an {@link AnimationPoint}
+	 * Compute the {@link AnimationPoint} for the current tick time into the provided point.<br>
+	 * The last found keyframe index is cached per keyframe track, so that the lookup is effectively constant-time during normal playback,
+	 * falling back to a binary search over the baked keyframe start times when looping or seeking
+	 * @param frames The list of {@code KeyFrames} to filter through
+	 * @param startTimes The baked cumulative start times for the {@code KeyFrames}
+	 * @param cursorIndex The index of the keyframe track in this controller's keyframe cursors
+	 * @param tick The current tick time
+	 * @param isRotation Whether the keyframes are rotation keyframes
+	 * @param axis The axis the keyframes are for
+	 * @param point The {@code AnimationPoint} to write the result into, typically obtained from an {@link AnimationPointQueue}
+	 * @return The provided {@code AnimationPoint}
 	 */
-	private AnimationPoint getAnimationPointAtTick(List<Keyframe<IValue>> frames, double tick, boolean isRotation,
-												   Axis axis) {
-		KeyframeLocation<Keyframe<IValue>> location = getCurrentKeyFrameLocation(frames, tick);
-		Keyframe<IValue> currentFrame = location.keyframe();
+	private AnimationPoint getAnimationPointAtTick(List<Keyframe<IValue>> frames, double[] startTimes, int cursorIndex, double tick, boolean isRotation,
+												   Axis axis, AnimationPoint point) {
+		int index = KeyframeStack.findKeyframeIndex(startTimes, tick, this.keyframeCursors[cursorIndex]);
+		Keyframe<IValue> currentFrame = frames.get(Math.min(index, frames.size() - 1));
+		double frameTick = index < frames.size() ? tick - startTimes[index] : tick;
+
+		this.keyframeCursors[cursorIndex] = index;
+
 		double startValue = currentFrame.startValue().get();
 		double endValue = currentFrame.endValue().get();
 
@@ -696,34 +1195,26 @@ public class AnimationController<T extends GeoAnimatable> {
 			}
 		}
 
-		return new AnimationPoint(currentFrame, location.startTick(), currentFrame.length(), startValue, endValue);
+		return point.set(currentFrame, frameTick, currentFrame.length(), startValue, endValue);
 	}
 
 	/**
-	 * Returns the {@link Keyframe} relevant to the current tick time
-	 * @param frames The list of {@code KeyFrames} to filter through
-	 * @param ageInTicks The current tick time
-	 * @return A new {@code KeyFrameLocation} containing the current {@code KeyFrame} and the tick time used to find it
+	 * Write pre-sampled {@link KeyframeSamples} into the provided {@link AnimationPoint}.<br>
+	 * The sampled value already has the keyframe easing applied, so the point is created as an already-completed transition to that value
 	 */
-	private KeyframeLocation<Keyframe<IValue>> getCurrentKeyFrameLocation(List<Keyframe<IValue>> frames,
-																		  double ageInTicks) {
-		double totalFrameTime = 0;
-
-		for (Keyframe<IValue> frame : frames) {
-			totalFrameTime += frame.length();
+	private AnimationPoint getSampledAnimationPoint(KeyframeSamples samples, int axis, double tick, AnimationPoint point) {
+		double value = samples.sample(axis, tick);
 
-			if (totalFrameTime > ageInTicks)
-				return new KeyframeLocation<>(frame, (ageInTicks - (totalFrameTime - frame.length())));
-		}
-
-		return new KeyframeLocation<>(frames.get(frames.size() - 1), ageInTicks);
+		return point.set(null, 0, 0, value, value);
 	}
 
 	/**
-	 * Clear the {@link KeyFrameData} cache in preparation for the next animation
+	 * Rewind the {@link KeyFrameData} cursors in preparation for the next animation or loop
 	 */
 	private void resetEventKeyFrames() {
-		this.executedKeyFrames.clear();
+		this.soundKeyframeCursor = 0;
+		this.particleKeyframeCursor = 0;
+		this.customKeyframeCursor = 0;
 	}
 
 	/**
@@ -788,4 +1279,34 @@ public class AnimationController<T extends GeoAnimatable> {
 		PAUSED,
 		STOPPED;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * A live view of the stages of the currently loaded {@link RawAnimation} that haven't been played yet, backing the deprecated {@link AnimationController#animationQueue}
+	 */
+	private final class RemainingStageQueue extends AbstractQueue<AnimationProcessor.QueuedAnimation> {
+		@Override
+		public Iterator<AnimationProcessor.QueuedAnimation> iterator() {
+			return Arrays.asList(AnimationController.this.animationStages).subList(Math.min(AnimationController.this.animationStageIndex, AnimationController.this.animationStages.length), AnimationController.this.animationStages.length).iterator();
+		}
+
+		@Override
+		public int size() {
+			return Math.max(0, AnimationController.this.animationStages.length - AnimationController.this.animationStageIndex);
+		}
+
+		@Override
+		public boolean offer(AnimationProcessor.QueuedAnimation animation) {
+			throw new UnsupportedOperationException("Stages can't be added to a controller's animation, use AnimationController#setAnimation instead");
+		}
+
+		@Override
+		public AnimationProcessor.QueuedAnimation poll() {
+			return pollAnimationStage();
+		}
+
+		@Override
+		public AnimationProcessor.QueuedAnimation peek() {
+			return peekAnimationStage();
+		}
+	}
+}
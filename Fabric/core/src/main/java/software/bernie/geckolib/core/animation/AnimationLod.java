@@ -0,0 +1,35 @@
+package software.bernie.geckolib.core.animation;
+
+/**
+ * The level of detail to animate an animatable at for a given render frame.<br>
+ * Lower levels of detail only evaluate animations every few frames, re-applying the last evaluated pose in between,
+ * and may skip {@link AnimationController#lowPriority() low priority} controllers entirely
+ * @param updateInterval The number of render frames between each evaluation of the animatable's animations. 1 evaluates every frame
+ * @param skipLowPriorityControllers Whether controllers marked as low priority should be skipped
+ */
+public record AnimationLod(int updateInterval, boolean skipLowPriorityControllers) {
+	public static final AnimationLod FULL = new AnimationLod(1, false);
+	public static final AnimationLod HALF_RATE = new AnimationLod(2, false);
+	public static final AnimationLod QUARTER_RATE = new AnimationLod(4, true);
+	public static final AnimationLod EIGHTH_RATE = new AnimationLod(8, true);
+
+	/**
+	 * Select the built-in level of detail for an animatable's approximate on-screen size, dropping a level each time the size falls below a threshold
+	 * @param screenSize The on-screen size of the animatable
+	 * @param halfRateSize The on-screen size below which to use {@link AnimationLod#HALF_RATE}
+	 * @param quarterRateSize The on-screen size below which to use {@link AnimationLod#QUARTER_RATE}
+	 * @param eighthRateSize The on-screen size below which to use {@link AnimationLod#EIGHTH_RATE}
+	 */
+	public static AnimationLod forScreenSize(double screenSize, double halfRateSize, double quarterRateSize, double eighthRateSize) {
+		if (screenSize >= halfRateSize)
+			return FULL;
+
+		if (screenSize >= quarterRateSize)
+			return HALF_RATE;
+
+		if (screenSize >= eighthRateSize)
+			return QUARTER_RATE;
+
+		return EIGHTH_RATE;
+	}
+}
@@ -8,16 +8,29 @@ import software.bernie.geckolib.core.animatable.model.CoreGeoBone;
 import software.bernie.geckolib.core.animatable.model.CoreGeoModel;
 import software.bernie.geckolib.core.keyframe.AnimationPoint;
 import software.bernie.geckolib.core.keyframe.BoneAnimationQueue;
+import software.bernie.geckolib.core.molang.MolangParser;
+import software.bernie.geckolib.core.molang.MolangScope;
 import software.bernie.geckolib.core.state.BoneSnapshot;
+import software.bernie.geckolib.core.state.PoseBuffer;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
 public class AnimationProcessor<T extends GeoAnimatable> {
 	private final Map<String, CoreGeoBone> bones = new Object2ObjectOpenHashMap<>();
+	private CoreGeoBone[] indexedBones = new CoreGeoBone[0];
+	private int boneCount = 0;
+	// Bones that may have been moved away from their initial pose since they were last reset, by any animatable using this processor
+	private final BitSet dirtyBones = new BitSet();
 	private final CoreGeoModel<T> model;
+	private CoreBakedGeoModel activeModel = null;
+	private final SharedPoseCache sharedPoseCache = new SharedPoseCache();
+	private final SharedPoseCache.Key sharedPoseKey = new SharedPoseCache.Key();
 
 	public boolean reloadAnimations = false;
 
@@ -32,10 +45,43 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	 * @return A queue of animations and loop types to play
 	 */
 	public Queue<QueuedAnimation> buildAnimationQueue(T animatable, RawAnimation rawAnimation) {
-		LinkedList<QueuedAnimation> animations = new LinkedList<>();
+		QueuedAnimation[] stages = getAnimationStages(animatable, rawAnimation);
+
+		return stages == null ? null : new LinkedList<>(Arrays.asList(stages));
+	}
+
+	/**
+	 * Get the compiled stages for the given {@link RawAnimation}, re-using the {@link AnimationStageCache shared cache} where possible.<br>
+	 * The returned array is shared, and must not be modified
+	 * @param animatable The animatable object being rendered
+	 * @param rawAnimation The raw animation to be compiled
+	 * @return An array of animations and loop types to play, or null if any of the animations couldn't be found
+	 */
+	public QueuedAnimation[] getAnimationStages(T animatable, RawAnimation rawAnimation) {
+		Object animationSource = this.model.getAnimationCacheKey(animatable);
+
+		if (animationSource == null)
+			return compileAnimationStages(animatable, rawAnimation);
+
+		QueuedAnimation[] stages = AnimationStageCache.get(animationSource, rawAnimation);
+
+		if (stages == null) {
+			stages = compileAnimationStages(animatable, rawAnimation);
+
+			if (stages != null)
+				AnimationStageCache.put(animationSource, rawAnimation, stages);
+		}
+
+		return stages;
+	}
+
+	private QueuedAnimation[] compileAnimationStages(T animatable, RawAnimation rawAnimation) {
+		List<RawAnimation.Stage> rawStages = rawAnimation.getStages();
+		QueuedAnimation[] animations = new QueuedAnimation[rawStages.size()];
 		boolean error = false;
 
-		for (RawAnimation.Stage stage : rawAnimation.getAnimationStages()) {
+		for (int i = 0; i < animations.length; i++) {
+			RawAnimation.Stage stage = rawStages.get(i);
 			Animation animation;
 
 			if (stage.animationName() == RawAnimation.Stage.WAIT) {
@@ -46,18 +92,74 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 			}
 
 			if (animation == null) {
-				System.out.println("Unable to find animation: " + stage.animationName() + " for " + animatable.getClass().getSimpleName());
+				AnimationDiagnostics.report(AnimationDiagnostics.Issue.MISSING_ANIMATION, animatable.getClass(), stage.animationName());
 
 				error = true;
 			}
 			else {
-				animations.add(new QueuedAnimation(animation, stage.loopType()));
+				animations[i] = new QueuedAnimation(animation, stage.loopType());
 			}
 		}
 
 		return error ? null : animations;
 	}
 
+	/**
+	 * Tick and apply transformations to the model at a fixed rate, rather than every render frame.<br>
+	 * Animations are only evaluated once per step, with render frames in between interpolating between the last two evaluated poses.
+	 * The rendered pose therefore trails the animation by up to one step, in the same way that entity rendering trails the game tick.<br>
+	 * Keyframe events are still fired by the evaluation step they fall in
+	 *
+	 * @param animatable            The animatable object relevant to the animation being played
+	 * @param model                 The model currently being processed
+	 * @param animatableManager			The AnimatableManager instance being used for this animation processor
+	 * @param animTime              The internal tick counter kept by the {@link AnimatableManager} for this animatable
+	 * @param state                 An {@link AnimationState} instance applied to this render frame
+	 * @param crashWhenCantFindBone Whether to crash if unable to find a required bone, or to continue with the remaining bones
+	 * @param stepLength            The length of time (in ticks) between each evaluation step
+	 */
+	public void tickAnimation(T animatable, CoreGeoModel<T> model, AnimatableManager<T> animatableManager, double animTime, AnimationState<T> state, boolean crashWhenCantFindBone, double stepLength) {
+		tickAnimation(animatable, model, animatableManager, animTime, state, crashWhenCantFindBone, stepLength, AnimationLod.FULL);
+	}
+
+	/**
+	 * Tick and apply transformations to the model at the given {@link AnimationLod level of detail}, optionally at a fixed rate.<br>
+	 * Render frames skipped by the level of detail re-apply the last evaluated pose instead of evaluating the animations
+	 *
+	 * @param animatable            The animatable object relevant to the animation being played
+	 * @param model                 The model currently being processed
+	 * @param animatableManager			The AnimatableManager instance being used for this animation processor
+	 * @param animTime              The internal tick counter kept by the {@link AnimatableManager} for this animatable
+	 * @param state                 An {@link AnimationState} instance applied to this render frame
+	 * @param crashWhenCantFindBone Whether to crash if unable to find a required bone, or to continue with the remaining bones
+	 * @param stepLength            The length of time (in ticks) between each evaluation step, or 0 to evaluate every render frame
+	 * @param lod                   The level of detail to animate at for this render frame
+	 * @see AnimationProcessor#tickAnimation(GeoAnimatable, CoreGeoModel, AnimatableManager, double, AnimationState, boolean, double)
+	 */
+	public void tickAnimation(T animatable, CoreGeoModel<T> model, AnimatableManager<T> animatableManager, double animTime, AnimationState<T> state, boolean crashWhenCantFindBone, double stepLength, AnimationLod lod) {
+		if (stepLength <= 0 && lod.updateInterval() <= 1) {
+			evaluateAnimations(animatable, model, animatableManager, animTime, state, crashWhenCantFindBone, lod.skipLowPriorityControllers());
+
+			return;
+		}
+
+		PoseBuffer poseBuffer = animatableManager.getPoseBuffer();
+		double evaluationTime = stepLength > 0 ? Math.floor(animTime / stepLength) * stepLength : animTime;
+		boolean evaluate = this.reloadAnimations || !poseBuffer.hasPose(this.activeModel, this.boneCount) ||
+				(poseBuffer.needsStep(evaluationTime, this.activeModel, this.boneCount) && !poseBuffer.skipFrame(lod.updateInterval()));
+
+		if (evaluate) {
+			evaluateAnimations(animatable, model, animatableManager, evaluationTime, state, crashWhenCantFindBone, lod.skipLowPriorityControllers());
+			poseBuffer.push(this.indexedBones, this.boneCount, this.activeModel, evaluationTime, stepLength);
+
+			if (stepLength <= 0)
+				return;
+		}
+
+		poseBuffer.apply(this.indexedBones, this.boneCount, stepLength > 0 ? (float)((animTime - poseBuffer.getStepTime()) / stepLength) : 1);
+		this.dirtyBones.set(0, this.boneCount);
+	}
+
 	/**
 	 * Tick and apply transformations to the model based on the current state of the {@link AnimationController}
 	 *
@@ -69,7 +171,25 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	 * @param crashWhenCantFindBone Whether to crash if unable to find a required bone, or to continue with the remaining bones
 	 */
 	public void tickAnimation(T animatable, CoreGeoModel<T> model, AnimatableManager<T> animatableManager, double animTime, AnimationState<T> event, boolean crashWhenCantFindBone) {
-		Map<String, BoneSnapshot> boneSnapshots = updateBoneSnapshots(animatableManager.getBoneSnapshotCollection());
+		evaluateAnimations(animatable, model, animatableManager, animTime, event, crashWhenCantFindBone, false);
+	}
+
+	/**
+	 * Evaluate and apply the animations of each of the animatable's controllers.<br>
+	 * If the animatable has opted in to {@link SharedPoseCache pose sharing}, controllers that are playing a fully pre-sampled animation defer their keyframe evaluation.
+	 * If every active controller deferred, and a pose has already been cached for the same animations at the same quantised animation times,
+	 * the cached pose is copied into the bones instead of evaluating the keyframes.
+	 * Otherwise, the deferred keyframes are evaluated and applied as normal, and the resulting pose is cached if all bones have settled
+	 */
+	private void evaluateAnimations(T animatable, CoreGeoModel<T> model, AnimatableManager<T> animatableManager, double animTime, AnimationState<T> event, boolean crashWhenCantFindBone, boolean skipLowPriorityControllers) {
+		BoneSnapshot[] boneSnapshots = updateBoneSnapshots(animatableManager);
+		BitSet unsettledBones = animatableManager.getUnsettledBones();
+
+		if (this.reloadAnimations)
+			this.dirtyBones.set(0, this.boneCount);
+
+		double sharedPoseInterval = this.reloadAnimations ? 0 : animatable.getSharedPoseInterval();
+		SharedPoseCache.Key sharedPoseKey = sharedPoseInterval > 0 ? this.sharedPoseKey.reset(this.activeModel, sharedPoseInterval) : null;
 
 		for (AnimationController<T> controller : animatableManager.getAnimationControllers().values()) {
 			if (this.reloadAnimations) {
@@ -77,146 +197,459 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 				controller.getBoneAnimationQueues().clear();
 			}
 
+			if (skipLowPriorityControllers && controller.isLowPriority())
+				continue;
+
+			if (controller.stayAsleep(this)) {
+				if (sharedPoseKey != null) {
+					applyDeferredBoneAnimations(animatableManager, boneSnapshots, unsettledBones);
+
+					sharedPoseKey = null;
+					sharedPoseInterval = 0;
+				}
+
+				controller.applyHeldPose(boneSnapshots);
+				markAnimatedBones(controller, unsettledBones);
+
+				continue;
+			}
+
 			controller.isJustStarting = animatableManager.isFirstTick();
+			controller.sharedPoseInterval = sharedPoseInterval;
 
 			event.withController(controller);
-			controller.process(model, event, this.bones, boneSnapshots, animTime, crashWhenCantFindBone);
+			controller.process(model, event, boneSnapshots, animTime, crashWhenCantFindBone);
 
-			for (BoneAnimationQueue boneAnimation : controller.getBoneAnimationQueues().values()) {
-				CoreGeoBone bone = boneAnimation.bone();
-				BoneSnapshot snapshot = boneSnapshots.get(bone.getName());
-				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
+			if (sharedPoseKey != null) {
+				Animation deferredAnimation = controller.getDeferredAnimation();
 
-				AnimationPoint rotXPoint = boneAnimation.rotationXQueue().poll();
-				AnimationPoint rotYPoint = boneAnimation.rotationYQueue().poll();
-				AnimationPoint rotZPoint = boneAnimation.rotationZQueue().poll();
-				AnimationPoint posXPoint = boneAnimation.positionXQueue().poll();
-				AnimationPoint posYPoint = boneAnimation.positionYQueue().poll();
-				AnimationPoint posZPoint = boneAnimation.positionZQueue().poll();
-				AnimationPoint scaleXPoint = boneAnimation.scaleXQueue().poll();
-				AnimationPoint scaleYPoint = boneAnimation.scaleYQueue().poll();
-				AnimationPoint scaleZPoint = boneAnimation.scaleZQueue().poll();
-				EasingType easingType = controller.overrideEasingTypeFunction.apply(animatable);
-
-				if (rotXPoint != null && rotYPoint != null && rotZPoint != null) {
-					bone.setRotX((float)EasingType.lerpWithOverride(rotXPoint, easingType) + initialSnapshot.getRotX());
-					bone.setRotY((float)EasingType.lerpWithOverride(rotYPoint, easingType) + initialSnapshot.getRotY());
-					bone.setRotZ((float)EasingType.lerpWithOverride(rotZPoint, easingType) + initialSnapshot.getRotZ());
-					snapshot.updateRotation(bone.getRotX(), bone.getRotY(), bone.getRotZ());
-					snapshot.startRotAnim();
-					bone.markRotationAsChanged();
-				}
+				if (deferredAnimation != null) {
+					sharedPoseKey.add(controller.getName(), controller.getBoneMask(), deferredAnimation, controller.getDeferredPhase());
 
-				if (posXPoint != null && posYPoint != null && posZPoint != null) {
-					bone.setPosX((float)EasingType.lerpWithOverride(posXPoint, easingType));
-					bone.setPosY((float)EasingType.lerpWithOverride(posYPoint, easingType));
-					bone.setPosZ((float)EasingType.lerpWithOverride(posZPoint, easingType));
-					snapshot.updateOffset(bone.getPosX(), bone.getPosY(), bone.getPosZ());
-					snapshot.startPosAnim();
-					bone.markPositionAsChanged();
+					continue;
 				}
 
-				if (scaleXPoint != null && scaleYPoint != null && scaleZPoint != null) {
-					bone.setScaleX((float)EasingType.lerpWithOverride(scaleXPoint, easingType));
-					bone.setScaleY((float)EasingType.lerpWithOverride(scaleYPoint, easingType));
-					bone.setScaleZ((float)EasingType.lerpWithOverride(scaleZPoint, easingType));
-					snapshot.updateScale(bone.getScaleX(), bone.getScaleY(), bone.getScaleZ());
-					snapshot.startScaleAnim();
-					bone.markScaleAsChanged();
+				if (controller.getAnimationState() != AnimationController.State.STOPPED) {
+					applyDeferredBoneAnimations(animatableManager, boneSnapshots, unsettledBones);
+
+					sharedPoseKey = null;
+					sharedPoseInterval = 0;
 				}
 			}
+
+			applyBoneAnimationQueues(controller, boneSnapshots, unsettledBones, controller.tryFallAsleep());
 		}
 
 		this.reloadAnimations = false;
+
+		boolean cachePose = sharedPoseKey != null && sharedPoseKey.size() > 0;
+
+		if (cachePose) {
+			float[] sharedPose = this.sharedPoseCache.get(sharedPoseKey);
+
+			if (sharedPose != null) {
+				for (AnimationController<T> controller : animatableManager.getAnimationControllers().values()) {
+					controller.clearDeferredBoneAnimations();
+				}
+
+				applySharedPose(sharedPose, boneSnapshots);
+				unsettledBones.set(0, this.boneCount);
+				animatableManager.finishFirstTick();
+
+				return;
+			}
+
+			applyDeferredBoneAnimations(animatableManager, boneSnapshots, unsettledBones);
+		}
+
+		if (resetUnanimatedBones(animatable, boneSnapshots, unsettledBones, animTime) && cachePose)
+			this.sharedPoseCache.put(sharedPoseKey, captureSharedPose());
+
+		animatableManager.finishFirstTick();
+	}
+
+	/**
+	 * Evaluate and apply the keyframes deferred by any of the animatable's controllers for {@link SharedPoseCache pose sharing}, in controller order.<br>
+	 * Called when no shared pose can be used for the frame
+	 */
+	private void applyDeferredBoneAnimations(AnimatableManager<T> animatableManager, BoneSnapshot[] boneSnapshots, BitSet unsettledBones) {
+		for (AnimationController<T> controller : animatableManager.getAnimationControllers().values()) {
+			if (controller.getDeferredAnimation() == null)
+				continue;
+
+			controller.evaluateDeferredBoneAnimations();
+			applyBoneAnimationQueues(controller, boneSnapshots, unsettledBones, controller.tryFallAsleep());
+		}
+	}
+
+	/**
+	 * Apply the next point of each of the given controller's {@link BoneAnimationQueue BoneAnimationQueues} to their bones
+	 * @param controller The controller to apply the queued points for
+	 * @param boneSnapshots The saved snapshots for each bone, indexed by bone index
+	 * @param unsettledBones The animatable's bones that need checking by the next {@link AnimationProcessor#resetUnanimatedBones reset}
+	 * @param holdPose Whether the controller has fallen asleep, and the applied pose should be saved for it
+	 */
+	private void applyBoneAnimationQueues(AnimationController<T> controller, BoneSnapshot[] boneSnapshots, BitSet unsettledBones, boolean holdPose) {
+		EasingType easingType = controller.easingOverride;
+
+		for (int i = 0; i < controller.activeBoneAnimationQueueCount; i++) {
+			BoneAnimationQueue boneAnimation = controller.activeBoneAnimationQueues[i];
+			CoreGeoBone bone = boneAnimation.bone();
+			BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
+
+			AnimationPoint rotXPoint = boneAnimation.rotationXQueue().poll();
+			AnimationPoint rotYPoint = boneAnimation.rotationYQueue().poll();
+			AnimationPoint rotZPoint = boneAnimation.rotationZQueue().poll();
+			AnimationPoint posXPoint = boneAnimation.positionXQueue().poll();
+			AnimationPoint posYPoint = boneAnimation.positionYQueue().poll();
+			AnimationPoint posZPoint = boneAnimation.positionZQueue().poll();
+			AnimationPoint scaleXPoint = boneAnimation.scaleXQueue().poll();
+			AnimationPoint scaleYPoint = boneAnimation.scaleYQueue().poll();
+			AnimationPoint scaleZPoint = boneAnimation.scaleZQueue().poll();
+			boolean applyRotation = rotXPoint != null && rotYPoint != null && rotZPoint != null;
+			boolean applyPosition = posXPoint != null && posYPoint != null && posZPoint != null;
+			boolean applyScale = scaleXPoint != null && scaleYPoint != null && scaleZPoint != null;
+
+			if (applyRotation) {
+				bone.setRotX((float)EasingType.lerpWithOverride(rotXPoint, easingType) + initialSnapshot.getRotX());
+				bone.setRotY((float)EasingType.lerpWithOverride(rotYPoint, easingType) + initialSnapshot.getRotY());
+				bone.setRotZ((float)EasingType.lerpWithOverride(rotZPoint, easingType) + initialSnapshot.getRotZ());
+
+				BoneSnapshot snapshot = boneSnapshots[bone.getIndex()];
+
+				snapshot.updateRotation(bone.getRotX(), bone.getRotY(), bone.getRotZ());
+				snapshot.startRotAnim();
+				bone.markRotationAsChanged();
+			}
+
+			if (applyPosition) {
+				bone.setPosX((float)EasingType.lerpWithOverride(posXPoint, easingType));
+				bone.setPosY((float)EasingType.lerpWithOverride(posYPoint, easingType));
+				bone.setPosZ((float)EasingType.lerpWithOverride(posZPoint, easingType));
+
+				BoneSnapshot snapshot = boneSnapshots[bone.getIndex()];
+
+				snapshot.updateOffset(bone.getPosX(), bone.getPosY(), bone.getPosZ());
+				snapshot.startPosAnim();
+				bone.markPositionAsChanged();
+			}
+
+			if (applyScale) {
+				bone.setScaleX((float)EasingType.lerpWithOverride(scaleXPoint, easingType));
+				bone.setScaleY((float)EasingType.lerpWithOverride(scaleYPoint, easingType));
+				bone.setScaleZ((float)EasingType.lerpWithOverride(scaleZPoint, easingType));
+
+				BoneSnapshot snapshot = boneSnapshots[bone.getIndex()];
+
+				snapshot.updateScale(bone.getScaleX(), bone.getScaleY(), bone.getScaleZ());
+				snapshot.startScaleAnim();
+				bone.markScaleAsChanged();
+			}
+
+			if (applyRotation || applyPosition || applyScale) {
+				this.dirtyBones.set(bone.getIndex());
+				unsettledBones.set(bone.getIndex());
+			}
+
+			if (holdPose)
+				controller.holdPose(i, applyRotation, applyPosition, applyScale);
+		}
+	}
+
+	/**
+	 * Mark the bones animated by the given controller's {@link AnimationController#applyHeldPose held pose} as needing checking by the next reset
+	 */
+	private void markAnimatedBones(AnimationController<T> controller, BitSet unsettledBones) {
+		for (int i = 0; i < controller.activeBoneAnimationQueueCount; i++) {
+			int boneIndex = controller.activeBoneAnimationQueues[i].bone().getIndex();
+
+			this.dirtyBones.set(boneIndex);
+			unsettledBones.set(boneIndex);
+		}
+	}
+
+	/**
+	 * Reset any bones not animated this frame back towards their initial pose.<br>
+	 * Only bones that may be away from their initial pose are checked. These are the bones that have been animated, looked up, or are partway through resetting
+	 * for this animatable, and the bones that were left moved by other animatables sharing this processor.
+	 * Bones are dropped from both sets once they've fully settled at their initial pose
+	 * @param unsettledBones The animatable's bones that haven't yet settled at their initial pose
+	 * @return Whether every bone is either animated or fully settled, with no bones partway through their reset
+	 */
+	private boolean resetUnanimatedBones(T animatable, BoneSnapshot[] boneSnapshots, BitSet unsettledBones, double animTime) {
 		double resetTickLength = animatable.getBoneResetTime();
+		boolean settled = true;
+
+		unsettledBones.or(this.dirtyBones);
+
+		for (int i = unsettledBones.nextSetBit(0); i >= 0 && i < this.boneCount; i = unsettledBones.nextSetBit(i + 1)) {
+			CoreGeoBone bone = this.indexedBones[i];
+			boolean rotationChanged = bone.hasRotationChanged();
+			boolean positionChanged = bone.hasPositionChanged();
+			boolean scaleChanged = bone.hasScaleChanged();
+			boolean boneSettled = !rotationChanged && !positionChanged && !scaleChanged;
 
-		for (CoreGeoBone bone : getRegisteredBones()) {
-			if (!bone.hasRotationChanged()) {
+			if (!rotationChanged) {
 				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
-				BoneSnapshot saveSnapshot = boneSnapshots.get(bone.getName());
+				BoneSnapshot saveSnapshot = boneSnapshots[i];
 
 				if (saveSnapshot.isRotAnimInProgress())
 					saveSnapshot.stopRotAnim(animTime);
 
 				double percentageReset = Math.min((animTime - saveSnapshot.getLastResetRotationTick()) / resetTickLength, 1);
 
-				bone.setRotX((float)Interpolations.lerp(saveSnapshot.getRotX(), initialSnapshot.getRotX(), percentageReset));
-				bone.setRotY((float)Interpolations.lerp(saveSnapshot.getRotY(), initialSnapshot.getRotY(), percentageReset));
-				bone.setRotZ((float)Interpolations.lerp(saveSnapshot.getRotZ(), initialSnapshot.getRotZ(), percentageReset));
+				if (percentageReset < 1) {
+					bone.setRotX((float)Interpolations.lerp(saveSnapshot.getRotX(), initialSnapshot.getRotX(), percentageReset));
+					bone.setRotY((float)Interpolations.lerp(saveSnapshot.getRotY(), initialSnapshot.getRotY(), percentageReset));
+					bone.setRotZ((float)Interpolations.lerp(saveSnapshot.getRotZ(), initialSnapshot.getRotZ(), percentageReset));
 
-				if (percentageReset >= 1)
-					saveSnapshot.updateRotation(bone.getRotX(), bone.getRotY(), bone.getRotZ());
+					rotationChanged = true;
+					boneSettled = false;
+					settled = false;
+				}
+				else if (!isRotationSettled(bone, initialSnapshot)) {
+					bone.setRotX(initialSnapshot.getRotX());
+					bone.setRotY(initialSnapshot.getRotY());
+					bone.setRotZ(initialSnapshot.getRotZ());
+					saveSnapshot.updateRotation(initialSnapshot.getRotX(), initialSnapshot.getRotY(), initialSnapshot.getRotZ());
+
+					rotationChanged = true;
+				}
+				else if (!isRotationSettled(saveSnapshot, initialSnapshot)) {
+					saveSnapshot.updateRotation(initialSnapshot.getRotX(), initialSnapshot.getRotY(), initialSnapshot.getRotZ());
+				}
 			}
 
-			if (!bone.hasPositionChanged()) {
+			if (!positionChanged) {
 				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
-				BoneSnapshot saveSnapshot = boneSnapshots.get(bone.getName());
+				BoneSnapshot saveSnapshot = boneSnapshots[i];
 
 				if (saveSnapshot.isPosAnimInProgress())
 					saveSnapshot.stopPosAnim(animTime);
 
 				double percentageReset = Math.min((animTime - saveSnapshot.getLastResetPositionTick()) / resetTickLength, 1);
 
-				bone.setPosX((float)Interpolations.lerp(saveSnapshot.getOffsetX(), initialSnapshot.getOffsetX(), percentageReset));
-				bone.setPosY((float)Interpolations.lerp(saveSnapshot.getOffsetY(), initialSnapshot.getOffsetY(), percentageReset));
-				bone.setPosZ((float)Interpolations.lerp(saveSnapshot.getOffsetZ(), initialSnapshot.getOffsetZ(), percentageReset));
+				if (percentageReset < 1) {
+					bone.setPosX((float)Interpolations.lerp(saveSnapshot.getOffsetX(), initialSnapshot.getOffsetX(), percentageReset));
+					bone.setPosY((float)Interpolations.lerp(saveSnapshot.getOffsetY(), initialSnapshot.getOffsetY(), percentageReset));
+					bone.setPosZ((float)Interpolations.lerp(saveSnapshot.getOffsetZ(), initialSnapshot.getOffsetZ(), percentageReset));
+
+					positionChanged = true;
+					boneSettled = false;
+					settled = false;
+				}
+				else if (!isPositionSettled(bone, initialSnapshot)) {
+					bone.setPosX(initialSnapshot.getOffsetX());
+					bone.setPosY(initialSnapshot.getOffsetY());
+					bone.setPosZ(initialSnapshot.getOffsetZ());
+					saveSnapshot.updateOffset(initialSnapshot.getOffsetX(), initialSnapshot.getOffsetY(), initialSnapshot.getOffsetZ());
 
-				if (percentageReset >= 1)
-					saveSnapshot.updateOffset(bone.getPosX(), bone.getPosY(), bone.getPosZ());
+					positionChanged = true;
+				}
+				else if (!isPositionSettled(saveSnapshot, initialSnapshot)) {
+					saveSnapshot.updateOffset(initialSnapshot.getOffsetX(), initialSnapshot.getOffsetY(), initialSnapshot.getOffsetZ());
+				}
 			}
 
-			if (!bone.hasScaleChanged()) {
+			if (!scaleChanged) {
 				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
-				BoneSnapshot saveSnapshot = boneSnapshots.get(bone.getName());
+				BoneSnapshot saveSnapshot = boneSnapshots[i];
 
 				if (saveSnapshot.isScaleAnimInProgress())
 					saveSnapshot.stopScaleAnim(animTime);
 
 				double percentageReset = Math.min((animTime - saveSnapshot.getLastResetScaleTick()) / resetTickLength, 1);
 
-				bone.setScaleX((float)Interpolations.lerp(saveSnapshot.getScaleX(), initialSnapshot.getScaleX(), percentageReset));
-				bone.setScaleY((float)Interpolations.lerp(saveSnapshot.getScaleY(), initialSnapshot.getScaleY(), percentageReset));
-				bone.setScaleZ((float)Interpolations.lerp(saveSnapshot.getScaleZ(), initialSnapshot.getScaleZ(), percentageReset));
+				if (percentageReset < 1) {
+					bone.setScaleX((float)Interpolations.lerp(saveSnapshot.getScaleX(), initialSnapshot.getScaleX(), percentageReset));
+					bone.setScaleY((float)Interpolations.lerp(saveSnapshot.getScaleY(), initialSnapshot.getScaleY(), percentageReset));
+					bone.setScaleZ((float)Interpolations.lerp(saveSnapshot.getScaleZ(), initialSnapshot.getScaleZ(), percentageReset));
+
+					scaleChanged = true;
+					boneSettled = false;
+					settled = false;
+				}
+				else if (!isScaleSettled(bone, initialSnapshot)) {
+					bone.setScaleX(initialSnapshot.getScaleX());
+					bone.setScaleY(initialSnapshot.getScaleY());
+					bone.setScaleZ(initialSnapshot.getScaleZ());
+					saveSnapshot.updateScale(initialSnapshot.getScaleX(), initialSnapshot.getScaleY(), initialSnapshot.getScaleZ());
 
-				if (percentageReset >= 1)
-					saveSnapshot.updateScale(bone.getScaleX(), bone.getScaleY(), bone.getScaleZ());
+					scaleChanged = true;
+				}
+				else if (!isScaleSettled(saveSnapshot, initialSnapshot)) {
+					saveSnapshot.updateScale(initialSnapshot.getScaleX(), initialSnapshot.getScaleY(), initialSnapshot.getScaleZ());
+				}
+			}
+
+			if (rotationChanged || positionChanged || scaleChanged)
+				bone.resetStateChanges();
+
+			if (boneSettled) {
+				unsettledBones.clear(i);
+				this.dirtyBones.clear(i);
+			}
+			else {
+				this.dirtyBones.set(i);
 			}
 		}
 
-		resetBoneTransformationMarkers();
-		animatableManager.finishFirstTick();
+		return settled;
+	}
+
+	/**
+	 * Pack the current pose of every bone for storage in the {@link SharedPoseCache}
+	 */
+	private float[] captureSharedPose() {
+		float[] pose = new float[this.boneCount * 9];
+
+		for (int i = 0; i < this.boneCount; i++) {
+			CoreGeoBone bone = this.indexedBones[i];
+			int offset = i * 9;
+
+			pose[offset] = bone.getRotX();
+			pose[offset + 1] = bone.getRotY();
+			pose[offset + 2] = bone.getRotZ();
+			pose[offset + 3] = bone.getPosX();
+			pose[offset + 4] = bone.getPosY();
+			pose[offset + 5] = bone.getPosZ();
+			pose[offset + 6] = bone.getScaleX();
+			pose[offset + 7] = bone.getScaleY();
+			pose[offset + 8] = bone.getScaleZ();
+		}
+
+		return pose;
+	}
+
+	/**
+	 * Copy a pose from the {@link SharedPoseCache} into every bone, updating their snapshots as if the pose had been animated
+	 */
+	private void applySharedPose(float[] pose, BoneSnapshot[] boneSnapshots) {
+		for (int i = 0; i < this.boneCount; i++) {
+			CoreGeoBone bone = this.indexedBones[i];
+			BoneSnapshot snapshot = boneSnapshots[i];
+			int offset = i * 9;
+
+			bone.setRotX(pose[offset]);
+			bone.setRotY(pose[offset + 1]);
+			bone.setRotZ(pose[offset + 2]);
+			bone.setPosX(pose[offset + 3]);
+			bone.setPosY(pose[offset + 4]);
+			bone.setPosZ(pose[offset + 5]);
+			bone.setScaleX(pose[offset + 6]);
+			bone.setScaleY(pose[offset + 7]);
+			bone.setScaleZ(pose[offset + 8]);
+			snapshot.updateRotation(pose[offset], pose[offset + 1], pose[offset + 2]);
+			snapshot.updateOffset(pose[offset + 3], pose[offset + 4], pose[offset + 5]);
+			snapshot.updateScale(pose[offset + 6], pose[offset + 7], pose[offset + 8]);
+			snapshot.startRotAnim();
+			snapshot.startPosAnim();
+			snapshot.startScaleAnim();
+			bone.resetStateChanges();
+		}
+	}
+
+	/**
+	 * Whether the given bone's rotation is already at its initial values, and doesn't need resetting
+	 */
+	private static boolean isRotationSettled(CoreGeoBone bone, BoneSnapshot initialSnapshot) {
+		return bone.getRotX() == initialSnapshot.getRotX() && bone.getRotY() == initialSnapshot.getRotY() && bone.getRotZ() == initialSnapshot.getRotZ();
+	}
+
+	/**
+	 * Whether the given bone's position is already at its initial values, and doesn't need resetting
+	 */
+	private static boolean isPositionSettled(CoreGeoBone bone, BoneSnapshot initialSnapshot) {
+		return bone.getPosX() == initialSnapshot.getOffsetX() && bone.getPosY() == initialSnapshot.getOffsetY() && bone.getPosZ() == initialSnapshot.getOffsetZ();
+	}
+
+	/**
+	 * Whether the given bone's scale is already at its initial values, and doesn't need resetting
+	 */
+	private static boolean isScaleSettled(CoreGeoBone bone, BoneSnapshot initialSnapshot) {
+		return bone.getScaleX() == initialSnapshot.getScaleX() && bone.getScaleY() == initialSnapshot.getScaleY() && bone.getScaleZ() == initialSnapshot.getScaleZ();
+	}
+
+	/**
+	 * Whether the given snapshot's rotation is already at the initial snapshot's values
+	 */
+	private static boolean isRotationSettled(BoneSnapshot snapshot, BoneSnapshot initialSnapshot) {
+		return snapshot.getRotX() == initialSnapshot.getRotX() && snapshot.getRotY() == initialSnapshot.getRotY() && snapshot.getRotZ() == initialSnapshot.getRotZ();
+	}
+
+	/**
+	 * Whether the given snapshot's position is already at the initial snapshot's values
+	 */
+	private static boolean isPositionSettled(BoneSnapshot snapshot, BoneSnapshot initialSnapshot) {
+		return snapshot.getOffsetX() == initialSnapshot.getOffsetX() && snapshot.getOffsetY() == initialSnapshot.getOffsetY() && snapshot.getOffsetZ() == initialSnapshot.getOffsetZ();
 	}
 
 	/**
-	 * Reset the transformation markers applied to each {@link CoreGeoBone} ready for the next render frame
+	 * Whether the given snapshot's scale is already at the initial snapshot's values
 	 */
-	private void resetBoneTransformationMarkers() {
-		getRegisteredBones().forEach(CoreGeoBone::resetStateChanges);
+	private static boolean isScaleSettled(BoneSnapshot snapshot, BoneSnapshot initialSnapshot) {
+		return snapshot.getScaleX() == initialSnapshot.getScaleX() && snapshot.getScaleY() == initialSnapshot.getScaleY() && snapshot.getScaleZ() == initialSnapshot.getScaleZ();
 	}
 
 	/**
 	 * Create new bone {@link BoneSnapshot} based on the bone's initial snapshot for the currently registered {@link CoreGeoBone GeoBones},
-	 * filtered by the bones already present in the master snapshots map
-	 * @param snapshots The master bone snapshots map from the related {@link AnimatableManager}
-	 * @return The input snapshots map, for easy assignment
+	 * filtered by the bones already present in the master snapshots array
+	 * @param animatableManager The {@link AnimatableManager} holding the master bone snapshots
+	 * @return The manager's master snapshots array, indexed by {@link CoreGeoBone#getIndex() bone index}
 	 */
-	private Map<String, BoneSnapshot> updateBoneSnapshots(Map<String, BoneSnapshot> snapshots) {
-		for (CoreGeoBone bone : getRegisteredBones()) {
-			if (!snapshots.containsKey(bone.getName()))
-				snapshots.put(bone.getName(), BoneSnapshot.copy(bone.getInitialSnapshot()));
+	private BoneSnapshot[] updateBoneSnapshots(AnimatableManager<T> animatableManager) {
+		BoneSnapshot[] snapshots = animatableManager.getIndexedBoneSnapshots(this.boneCount);
+
+		for (int i = 0; i < this.boneCount; i++) {
+			CoreGeoBone bone = this.indexedBones[i];
+			BoneSnapshot snapshot = snapshots[i];
+
+			if (snapshot == null || snapshot.getBone() != bone) {
+				snapshots[i] = snapshot = BoneSnapshot.copy(bone.getInitialSnapshot());
+				animatableManager.getUnsettledBones().set(i);
+
+				animatableManager.getBoneSnapshotCollection().put(bone.getName(), snapshot);
+			}
 		}
 
 		return snapshots;
 	}
 
 	/**
-	 * Gets a bone by name.
+	 * Gets a bone by name.<br>
+	 * Bones obtained this way are checked by the next reset of unanimated bones, so any changes made to them are reset as normal
 	 *
 	 * @param boneName The bone name
 	 * @return the bone
 	 */
 	public CoreGeoBone getBone(String boneName) {
-		return this.bones.get(boneName);
+		CoreGeoBone bone = this.bones.get(boneName);
+
+		if (bone != null)
+			this.dirtyBones.set(bone.getIndex());
+
+		return bone;
+	}
+
+	/**
+	 * Gets a bone by its {@link CoreGeoBone#getIndex() index}.<br>
+	 * Bones obtained this way are checked by the next reset of unanimated bones, so any changes made to them are reset as normal
+	 *
+	 * @param boneIndex The bone index
+	 * @return the bone
+	 */
+	public CoreGeoBone getBone(int boneIndex) {
+		this.dirtyBones.set(boneIndex);
+
+		return this.indexedBones[boneIndex];
+	}
+
+	/**
+	 * Gets the number of bones currently registered to this processor.<br>
+	 * Registered bones occupy the indices {@code 0} to {@code getBoneCount() - 1}
+	 */
+	public int getBoneCount() {
+		return this.boneCount;
 	}
 
 	/**
@@ -226,6 +659,15 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	 */
 	public void registerGeoBone(CoreGeoBone bone) {
 		bone.saveInitialSnapshot();
+		bone.setIndex(this.boneCount);
+
+		if (bone.getIndex() != this.boneCount)
+			throw new IllegalStateException("Bone '" + bone.getName() + "' (" + bone.getClass().getName() + ") doesn't store its index. Implement CoreGeoBone#getIndex and CoreGeoBone#setIndex to animate it");
+
+		if (this.boneCount == this.indexedBones.length)
+			this.indexedBones = Arrays.copyOf(this.indexedBones, Math.max(4, this.boneCount * 2));
+
+		this.indexedBones[this.boneCount++] = bone;
 		this.bones.put(bone.getName(), bone);
 
 		for (CoreGeoBone child : bone.getChildBones()) {
@@ -240,16 +682,46 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	 */
 	public void setActiveModel(CoreBakedGeoModel model) {
 		this.bones.clear();
+		Arrays.fill(this.indexedBones, null);
+		this.boneCount = 0;
 
 		for (CoreGeoBone bone : model.getBones()) {
 			registerGeoBone(bone);
 		}
+
+		this.dirtyBones.clear();
+		this.dirtyBones.set(0, this.boneCount);
+
+		this.activeModel = model;
 	}
 
 	/**
-	 * Get an iterable collection of the {@link CoreGeoBone GeoBones} currently registered to the processor
+	 * Get the {@link CoreBakedGeoModel} most recently set as active for this processor via {@link AnimationProcessor#setActiveModel}.<br>
+	 * {@link AnimationController AnimationControllers} use this to determine when their per-bone storage needs rebuilding
+	 * @return The currently active baked model, or null if none has been set yet
+	 */
+	public CoreBakedGeoModel getActiveModel() {
+		return this.activeModel;
+	}
+
+	/**
+	 * Get the {@link AnimationBinding} for the given {@link Animation} against the currently active model.<br>
+	 * Bindings are cached per model and animation, so this only performs bone lookups the first time an animation is played on a model
+	 * @param animation The animation to bind
+	 * @return The {@code AnimationBinding} mapping the animation's {@link software.bernie.geckolib.core.keyframe.BoneAnimation BoneAnimations} to bone indices
+	 */
+	public AnimationBinding getAnimationBinding(Animation animation) {
+		return AnimationBinding.get(this.activeModel, animation);
+	}
+
+	/**
+	 * Get an iterable collection of the {@link CoreGeoBone GeoBones} currently registered to the processor.<br>
+	 * All bones are checked by the next reset of unanimated bones after calling this.
+	 * Use {@link AnimationProcessor#getBoneCount()} to check whether any bones are registered
 	 */
 	public Collection<CoreGeoBone> getRegisteredBones() {
+		this.dirtyBones.set(0, this.boneCount);
+
 		return this.bones.values();
 	}
 
@@ -257,6 +729,12 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	 * Apply transformations and settings prior to acting on any animation-related functionality
 	 */
 	public void preAnimationSetup(T animatable, double animTime) {
+		MolangScope scope = MolangScope.current();
+
+		if (scope != null)
+			scope.prepare(animatable, animTime);
+
+		MolangParser.advanceEvaluationEpoch();
 		this.model.applyMolangQueries(animatable, animTime);
 	}
 
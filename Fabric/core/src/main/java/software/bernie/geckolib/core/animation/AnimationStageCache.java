@@ -0,0 +1,46 @@
+package software.bernie.geckolib.core.animation;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+
+import java.util.Map;
+
+/**
+ * A shared cache of compiled {@link RawAnimation} stages, keyed by the animation source they were compiled against and the {@code RawAnimation} itself.<br>
+ * Compiled stage arrays are immutable and shared between every {@link AnimationController} playing the same {@code RawAnimation},
+ * with each controller only holding its own cursor into the array.
+ */
+public final class AnimationStageCache {
+	private static final Map<Object, Map<RawAnimation, AnimationProcessor.QueuedAnimation[]>> STAGES = new Object2ObjectOpenHashMap<>();
+
+	/**
+	 * Get the cached compiled stages for the given {@code RawAnimation}
+	 * @param animationSource The key identifying the source of the animations, as provided by {@link software.bernie.geckolib.core.animatable.model.CoreGeoModel#getAnimationCacheKey}
+	 * @param rawAnimation The {@code RawAnimation} to get the stages for
+	 * @return The compiled stages, or null if they haven't been cached yet
+	 */
+	public static AnimationProcessor.QueuedAnimation[] get(Object animationSource, RawAnimation rawAnimation) {
+		Map<RawAnimation, AnimationProcessor.QueuedAnimation[]> stages = STAGES.get(animationSource);
+
+		return stages == null ? null : stages.get(rawAnimation);
+	}
+
+	/**
+	 * Cache the compiled stages for the given {@code RawAnimation}.<br>
+	 * The {@code RawAnimation} is copied for use as the key, so that later modifications to it don't affect the cache
+	 * @param animationSource The key identifying the source of the animations, as provided by {@link software.bernie.geckolib.core.animatable.model.CoreGeoModel#getAnimationCacheKey}
+	 * @param rawAnimation The {@code RawAnimation} the stages were compiled from
+	 * @param compiledStages The compiled stages
+	 */
+	public static void put(Object animationSource, RawAnimation rawAnimation, AnimationProcessor.QueuedAnimation[] compiledStages) {
+		STAGES.computeIfAbsent(animationSource, key -> new Object2ObjectOpenHashMap<>())
+				.put(RawAnimation.copyOf(rawAnimation), compiledStages);
+	}
+
+	/**
+	 * Clear all cached stages.<br>
+	 * Called when GeckoLib reloads its resources, as the baked animations are replaced at that point
+	 */
+	public static void clearCache() {
+		STAGES.clear();
+	}
+}
@@ -1,9 +1,12 @@
 package software.bernie.geckolib.core.animation;
 
 import software.bernie.geckolib.core.animatable.GeoAnimatable;
+import software.bernie.geckolib.core.molang.MolangScope;
 import software.bernie.geckolib.core.object.DataTicket;
 import software.bernie.geckolib.core.state.BoneSnapshot;
+import software.bernie.geckolib.core.state.PoseBuffer;
 
+import java.util.BitSet;
 import java.util.Map;
 
 /**
@@ -68,6 +71,22 @@ public abstract class ContextAwareAnimatableManager<T extends GeoAnimatable, C>
 		return getManagerForContext(getCurrentContext()).getBoneSnapshotCollection();
 	}
 
+	public BoneSnapshot[] getIndexedBoneSnapshots(int boneCount) {
+		return getManagerForContext(getCurrentContext()).getIndexedBoneSnapshots(boneCount);
+	}
+
+	public PoseBuffer getPoseBuffer() {
+		return getManagerForContext(getCurrentContext()).getPoseBuffer();
+	}
+
+	public BitSet getUnsettledBones() {
+		return getManagerForContext(getCurrentContext()).getUnsettledBones();
+	}
+
+	public MolangScope getMolangScope() {
+		return getManagerForContext(getCurrentContext()).getMolangScope();
+	}
+
 	public void clearSnapshotCache() {
 		getManagerForContext(getCurrentContext()).clearSnapshotCache();
 	}
@@ -98,8 +117,7 @@ public abstract class ContextAwareAnimatableManager<T extends GeoAnimatable, C>
 
 	/**
 	 * Attempt to trigger an animation from a given controller name and registered triggerable animation name.<br>
-	 * This pseudo-overloaded method checks each controller in turn until one of them accepts the trigger.<br>
-	 * This can be sped up by specifying which controller you intend to receive the trigger in {@link AnimatableManager#tryTriggerAnimation(String, String)}
+	 * This pseudo-overloaded method triggers the animation in each context's manager, via that manager's trigger index
 	 * @param animName The name of animation to trigger. This needs to have been registered with the controller via {@link AnimationController#triggerableAnim AnimationController.triggerableAnim}
 	 */
 	public void tryTriggerAnimation(String animName) {
@@ -69,19 +69,32 @@ public interface EasingType {
 	}
 
 	default double apply(AnimationPoint animationPoint) {
-		Double easingVariable = null;
+		Keyframe<?> keyframe = animationPoint.keyFrame();
 
-		if (animationPoint.keyFrame() != null && animationPoint.keyFrame().easingArgs().size() > 0)
-			easingVariable = animationPoint.keyFrame().easingArgs().get(0).get();
+		if (keyframe == null)
+			return apply(animationPoint, null, animationPoint.currentTick() / animationPoint.transitionLength());
 
-		return apply(animationPoint, easingVariable, animationPoint.currentTick() / animationPoint.transitionLength());
+		return apply(animationPoint, keyframe.easingTransformer().forType(this));
 	}
 
 	default double apply(AnimationPoint animationPoint, Double easingValue, double lerpValue) {
 		if (animationPoint.currentTick() >= animationPoint.transitionLength())
 			return (float)animationPoint.animationEndValue();
 
-		return Interpolations.lerp(animationPoint.animationStartValue(), animationPoint.animationEndValue(), buildTransformer(easingValue).apply(lerpValue));
+		return Interpolations.lerp(animationPoint.animationStartValue(), animationPoint.animationEndValue(), buildTransformer(easingValue).get(lerpValue));
+	}
+
+	/**
+	 * Apply an already-built transformer to the given {@link AnimationPoint}.<br>
+	 * Used for keyframes with a {@link Keyframe#easingTransformer() cached transformer}, avoiding rebuilding the transformer each time
+	 * @param animationPoint The point to lerp
+	 * @param transformer The transformer previously built by this {@code EasingType}
+	 */
+	default double apply(AnimationPoint animationPoint, Double2DoubleFunction transformer) {
+		if (animationPoint.currentTick() >= animationPoint.transitionLength())
+			return (float)animationPoint.animationEndValue();
+
+		return Interpolations.lerp(animationPoint.animationStartValue(), animationPoint.animationEndValue(), transformer.get(animationPoint.currentTick() / animationPoint.transitionLength()));
 	}
 
 	/**
@@ -149,7 +162,7 @@ public interface EasingType {
 	 * Returns an easing function running backwards in time
 	 */
 	static Double2DoubleFunction easeOut(Double2DoubleFunction function) {
-		return time -> 1 - function.apply(1 - time);
+		return time -> 1 - function.get(1 - time);
 	}
 
 	/**
@@ -158,9 +171,9 @@ public interface EasingType {
 	static Double2DoubleFunction easeInOut(Double2DoubleFunction function) {
 		return time -> {
 			if (time < 0.5d)
-				return function.apply(time * 2d) / 2d;
+				return function.get(time * 2d) / 2d;
 
-			return 1 - function.apply((1 - time) * 2d) / 2d;
+			return 1 - function.get((1 - time) * 2d) / 2d;
 		};
 	}
 
@@ -263,7 +276,7 @@ public interface EasingType {
 		Double2DoubleFunction three = x -> 121 * n2 * n2 * Math.pow(x - 9f / 11f, 2) + 1 - n2 * n2;
 		Double2DoubleFunction four = x -> 484 * n2 * n2 * n2 * Math.pow(x - 10.5f / 11f, 2) + 1 - n2 * n2 * n2;
 
-		return t -> Math.min(Math.min(one.apply(t), two.apply(t)), Math.min(three.apply(t), four.apply(t)));
+		return t -> Math.min(Math.min(one.get(t), two.get(t)), Math.min(three.get(t), four.get(t)));
 	}
 
 	/**
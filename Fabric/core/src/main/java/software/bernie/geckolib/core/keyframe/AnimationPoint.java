@@ -5,15 +5,117 @@
 
 package software.bernie.geckolib.core.keyframe;
 
+import java.util.Objects;
+
 /**
- * Animation state record that holds the state of an animation at a given point
- * @param currentTick The lerped tick time (current tick + partial tick) of the point
- * @param transitionLength The length of time (in ticks) that the point should take to transition
- * @param animationStartValue The start value to provide to the animation handling system
- * @param animationEndValue The end value to provide to the animation handling system
- * @param keyFrame The {@code Nullable} Keyframe
+ * Animation state object that holds the state of an animation at a given point.<br>
+ * Instances are mutable so that they can be pooled and re-used by their {@link AnimationPointQueue} between render frames.
+ * Points keep the same accessors, equality, and string form as when this was a record.
+ * <br><br>
+ * <b><u>Ownership:</u></b><br>
+ * A point obtained from an {@link AnimationPointQueue} belongs to that queue, and is overwritten once the queue is {@link AnimationPointQueue#clear() cleared} and the point is handed out again.
+ * Queues are cleared each time their controller processes a new frame, so pooled points should be consumed within the frame they were obtained in.<br>
+ * Use {@link AnimationPoint#copy()} to keep the values of a point beyond that. Points created directly with the constructor are never pooled
  */
-public record AnimationPoint(Keyframe<?> keyFrame, double currentTick, double transitionLength, double animationStartValue, double animationEndValue) {
+public final class AnimationPoint {
+	private Keyframe<?> keyFrame;
+	private double currentTick;
+	private double transitionLength;
+	private double animationStartValue;
+	private double animationEndValue;
+
+	/**
+	 * @param keyFrame The {@code Nullable} Keyframe
+	 * @param currentTick The lerped tick time (current tick + partial tick) of the point
+	 * @param transitionLength The length of time (in ticks) that the point should take to transition
+	 * @param animationStartValue The start value to provide to the animation handling system
+	 * @param animationEndValue The end value to provide to the animation handling system
+	 */
+	public AnimationPoint(Keyframe<?> keyFrame, double currentTick, double transitionLength, double animationStartValue, double animationEndValue) {
+		set(keyFrame, currentTick, transitionLength, animationStartValue, animationEndValue);
+	}
+
+	/**
+	 * Replace the values of this point
+	 * @param keyFrame The {@code Nullable} Keyframe
+	 * @param currentTick The lerped tick time (current tick + partial tick) of the point
+	 * @param transitionLength The length of time (in ticks) that the point should take to transition
+	 * @param animationStartValue The start value to provide to the animation handling system
+	 * @param animationEndValue The end value to provide to the animation handling system
+	 * @return This point, for chaining
+	 */
+	public AnimationPoint set(Keyframe<?> keyFrame, double currentTick, double transitionLength, double animationStartValue, double animationEndValue) {
+		this.keyFrame = keyFrame;
+		this.currentTick = currentTick;
+		this.transitionLength = transitionLength;
+		this.animationStartValue = animationStartValue;
+		this.animationEndValue = animationEndValue;
+
+		return this;
+	}
+
+	/**
+	 * The {@code Nullable} Keyframe
+	 */
+	public Keyframe<?> keyFrame() {
+		return this.keyFrame;
+	}
+
+	/**
+	 * The lerped tick time (current tick + partial tick) of the point
+	 */
+	public double currentTick() {
+		return this.currentTick;
+	}
+
+	/**
+	 * The length of time (in ticks) that the point should take to transition
+	 */
+	public double transitionLength() {
+		return this.transitionLength;
+	}
+
+	/**
+	 * The start value to provide to the animation handling system
+	 */
+	public double animationStartValue() {
+		return this.animationStartValue;
+	}
+
+	/**
+	 * The end value to provide to the animation handling system
+	 */
+	public double animationEndValue() {
+		return this.animationEndValue;
+	}
+
+	/**
+	 * Create an unpooled copy of this point, safe to hold onto after its queue has been cleared
+	 */
+	public AnimationPoint copy() {
+		return new AnimationPoint(this.keyFrame, this.currentTick, this.transitionLength, this.animationStartValue, this.animationEndValue);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+
+		if (!(obj instanceof AnimationPoint other))
+			return false;
+
+		return Double.compare(this.currentTick, other.currentTick) == 0 &&
+				Double.compare(this.transitionLength, other.transitionLength) == 0 &&
+				Double.compare(this.animationStartValue, other.animationStartValue) == 0 &&
+				Double.compare(this.animationEndValue, other.animationEndValue) == 0 &&
+				Objects.equals(this.keyFrame, other.keyFrame);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.keyFrame, this.currentTick, this.transitionLength, this.animationStartValue, this.animationEndValue);
+	}
+
 	@Override
 	public String toString() {
 		return "Tick: " + this.currentTick +
@@ -22,6 +22,22 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 				new AnimationPointQueue(), new AnimationPointQueue(), new AnimationPointQueue());
 	}
 
+	/**
+	 * Clear all pending {@link AnimationPoint AnimationPoints} from this queue's channels.<br>
+	 * Used by the {@link software.bernie.geckolib.core.animation.AnimationController} to re-use the same queue between render frames
+	 */
+	public void reset() {
+		this.rotationXQueue.clear();
+		this.rotationYQueue.clear();
+		this.rotationZQueue.clear();
+		this.positionXQueue.clear();
+		this.positionYQueue.clear();
+		this.positionZQueue.clear();
+		this.scaleXQueue.clear();
+		this.scaleYQueue.clear();
+		this.scaleZQueue.clear();
+	}
+
 	/**
 	 * Add a new {@link AnimationPoint} to the {@link BoneAnimationQueue#positionXQueue}
 	 * @param keyFrame The {@code Nullable} Keyframe relevant to the animation point
@@ -31,7 +47,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addPosXPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.positionXQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.positionXQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -43,7 +59,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addPosYPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.positionYQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.positionYQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -55,7 +71,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addPosZPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.positionZQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.positionZQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -83,7 +99,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addScaleXPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.scaleXQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.scaleXQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -95,7 +111,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addScaleYPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.scaleYQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.scaleYQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -107,7 +123,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addScaleZPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.scaleZQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.scaleZQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -135,7 +151,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addRotationXPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.rotationXQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.rotationXQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -147,7 +163,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addRotationYPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.rotationYQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.rotationYQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -159,7 +175,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addRotationZPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.rotationZQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.rotationZQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
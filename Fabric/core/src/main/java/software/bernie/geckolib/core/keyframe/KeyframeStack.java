@@ -10,34 +10,98 @@ import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import java.util.List;
 
 /**
- * Stores a triplet of {@link Keyframe Keyframes} in an ordered stack
+ * Stores a triplet of {@link Keyframe Keyframes} in an ordered stack.<br>
+ * Each axis also has a baked array of cumulative keyframe start times, with one trailing entry for the end time of the final keyframe.
+ * This allows for the current keyframe to be found without summing keyframe lengths every lookup.<br>
+ * Stacks made up entirely of constant keyframes may also hold pre-sampled {@link KeyframeSamples}, which are used in place of the keyframes during playback
  */
-public record KeyframeStack<T extends Keyframe<?>>(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes) {
+public record KeyframeStack<T extends Keyframe<?>>(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes,
+												   double[] xStartTimes, double[] yStartTimes, double[] zStartTimes,
+												   KeyframeSamples samples) {
 	public KeyframeStack() {
 		this(new ObjectArrayList<>(), new ObjectArrayList<>(), new ObjectArrayList<>());
 	}
 
+	public KeyframeStack(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes) {
+		this(xKeyframes, yKeyframes, zKeyframes, computeStartTimes(xKeyframes), computeStartTimes(yKeyframes), computeStartTimes(zKeyframes));
+	}
+
+	public KeyframeStack(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes, double[] xStartTimes, double[] yStartTimes, double[] zStartTimes) {
+		this(xKeyframes, yKeyframes, zKeyframes, xStartTimes, yStartTimes, zStartTimes, null);
+	}
+
 	public static <F extends Keyframe<?>> KeyframeStack<F> from(KeyframeStack<F> otherStack) {
-		return new KeyframeStack<>(otherStack.xKeyframes, otherStack.yKeyframes, otherStack.zKeyframes);
+		return new KeyframeStack<>(otherStack.xKeyframes, otherStack.yKeyframes, otherStack.zKeyframes,
+				otherStack.xStartTimes, otherStack.yStartTimes, otherStack.zStartTimes, otherStack.samples);
 	}
 
-	public double getLastKeyframeTime() {
-		double xTime = 0;
-		double yTime = 0;
-		double zTime = 0;
+	/**
+	 * Create a copy of this stack with the given pre-sampled values
+	 * @param samples The sampled values for this stack, or null to remove any existing samples
+	 */
+	public KeyframeStack<T> withSamples(KeyframeSamples samples) {
+		return new KeyframeStack<>(this.xKeyframes, this.yKeyframes, this.zKeyframes, this.xStartTimes, this.yStartTimes, this.zStartTimes, samples);
+	}
+
+	/**
+	 * Compute the cumulative start times for the given keyframes
+	 * @param keyframes The ordered keyframes for a single axis
+	 * @return An array of size {@code keyframes.size() + 1}, where each entry is the start time of the keyframe at that index, and the last entry is the end time of the final keyframe
+	 */
+	public static double[] computeStartTimes(List<? extends Keyframe<?>> keyframes) {
+		double[] startTimes = new double[keyframes.size() + 1];
+		double time = 0;
 
-		for (T frame : xKeyframes()) {
-			xTime += frame.length();
+		for (int i = 0; i < keyframes.size(); i++) {
+			startTimes[i] = time;
+			time += keyframes.get(i).length();
 		}
 
-		for (T frame : yKeyframes()) {
-			yTime += frame.length();
+		startTimes[keyframes.size()] = time;
+
+		return startTimes;
+	}
+
+	/**
+	 * Find the index of the keyframe active at the given tick, using its baked start times.<br>
+	 * The provided index hint is checked first (along with the keyframe immediately after it), so that monotonic playback doesn't need to search at all
+	 * @param startTimes The baked start times for the axis, as returned by {@link KeyframeStack#computeStartTimes}
+	 * @param tick The tick to find the keyframe for
+	 * @param hint The index of the previously found keyframe for this axis, or 0 if none
+	 * @return The index of the first keyframe that ends after the given tick, or the size of the keyframe list if the tick is past the end of the final keyframe
+	 */
+	public static int findKeyframeIndex(double[] startTimes, double tick, int hint) {
+		int count = startTimes.length - 1;
+
+		if (tick >= startTimes[count])
+			return count;
+
+		if (hint >= 0 && hint < count && (hint == 0 || startTimes[hint] <= tick)) {
+			if (startTimes[hint + 1] > tick)
+				return hint;
+
+			if (hint + 1 < count && startTimes[hint + 2] > tick)
+				return hint + 1;
 		}
 
-		for (T frame : zKeyframes()) {
-			zTime += frame.length();
+		int low = 0;
+		int high = count - 1;
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+
+			if (startTimes[mid + 1] > tick) {
+				high = mid;
+			}
+			else {
+				low = mid + 1;
+			}
 		}
 
-		return Math.max(xTime, Math.max(yTime, zTime));
+		return low;
+	}
+
+	public double getLastKeyframeTime() {
+		return Math.max(this.xStartTimes[this.xStartTimes.length - 1], Math.max(this.yStartTimes[this.yStartTimes.length - 1], this.zStartTimes[this.zStartTimes.length - 1]));
 	}
 }
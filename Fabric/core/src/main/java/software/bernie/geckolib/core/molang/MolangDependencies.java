@@ -0,0 +1,97 @@
+package software.bernie.geckolib.core.molang;
+
+import com.eliotlash.mclib.math.Constant;
+import com.eliotlash.mclib.math.Group;
+import com.eliotlash.mclib.math.IValue;
+import com.eliotlash.mclib.math.Negate;
+import com.eliotlash.mclib.math.Negative;
+import com.eliotlash.mclib.math.Operator;
+import com.eliotlash.mclib.math.Ternary;
+import com.eliotlash.mclib.math.functions.Function;
+import software.bernie.geckolib.core.molang.expressions.CompiledMolangValue;
+import software.bernie.geckolib.core.molang.expressions.MolangCompoundValue;
+import software.bernie.geckolib.core.molang.expressions.MolangValue;
+import software.bernie.geckolib.core.molang.expressions.MolangVariableHolder;
+
+import java.util.BitSet;
+
+/**
+ * Static dependency analysis for parsed Molang expressions.<br>
+ * Used at load time to determine which {@link MolangParser} variables and queries an expression can read,
+ * so that queries that are never referenced don't need to be bound at render time
+ */
+public final class MolangDependencies {
+	/**
+	 * Collect the {@link MolangParser#getSlot slot} indices of every registered {@link LazyVariable} referenced by the given expression.<br>
+	 * Statement-local variables are not registered, and so are not collected
+	 * @param value The parsed expression
+	 * @param slots The set to add the referenced slot indices to
+	 * @return Whether the expression could be fully analysed. If false, the expression should be treated as potentially referencing any variable
+	 */
+	public static boolean collectVariableSlots(IValue value, BitSet slots) {
+		try {
+			return collect(value, slots);
+		}
+		catch (ReflectiveOperationException ex) {
+			return false;
+		}
+	}
+
+	private static boolean collect(IValue value, BitSet slots) throws ReflectiveOperationException {
+		if (value instanceof CompiledMolangValue compiledValue)
+			return collect(compiledValue.getSource(), slots);
+
+		if (value instanceof MolangCompoundValue compoundValue) {
+			boolean analysed = true;
+
+			for (MolangValue statement : compoundValue.values) {
+				analysed &= collect(statement, slots);
+			}
+
+			return analysed;
+		}
+
+		if (value instanceof MolangVariableHolder variableHolder)
+			return (variableHolder.variable == null || collect(variableHolder.variable, slots)) & collect(variableHolder.getValueHolder(), slots);
+
+		if (value instanceof MolangValue molangValue)
+			return collect(molangValue.getValueHolder(), slots);
+
+		if (value instanceof LazyVariable variable) {
+			if (variable.getSlot() >= 0 && MolangParser.VARIABLES.get(variable.getName()) == variable)
+				slots.set(variable.getSlot());
+
+			return true;
+		}
+
+		if (value instanceof Constant)
+			return true;
+
+		if (value instanceof Group group)
+			return collect(MolangCompiler.getGroupValue(group), slots);
+
+		if (value instanceof Negative negative)
+			return collect(negative.value, slots);
+
+		if (value instanceof Negate negate)
+			return collect(negate.value, slots);
+
+		if (value instanceof Ternary ternary)
+			return collect(ternary.condition, slots) & collect(ternary.ifTrue, slots) & collect(ternary.ifFalse, slots);
+
+		if (value instanceof Operator operator)
+			return collect(operator.a, slots) & collect(operator.b, slots);
+
+		if (value instanceof Function function) {
+			boolean analysed = true;
+
+			for (IValue arg : MolangCompiler.getFunctionArgs(function)) {
+				analysed &= collect(arg, slots);
+			}
+
+			return analysed;
+		}
+
+		return false;
+	}
+}
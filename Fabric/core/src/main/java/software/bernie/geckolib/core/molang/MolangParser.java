@@ -6,7 +6,9 @@ import com.eliotlash.mclib.math.MathBuilder;
 import com.eliotlash.mclib.math.Variable;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import software.bernie.geckolib.core.molang.expressions.MolangCompoundValue;
 import software.bernie.geckolib.core.molang.expressions.MolangValue;
 import software.bernie.geckolib.core.molang.expressions.MolangVariableHolder;
@@ -15,6 +17,7 @@ import software.bernie.geckolib.core.molang.functions.SinDegrees;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.DoubleSupplier;
 
 /**
@@ -22,8 +25,12 @@ import java.util.function.DoubleSupplier;
  * @see <a href="https://bedrock.dev/docs/1.19.0.0/1.19.30.23/Molang#Math%20Functions">Bedrock Dev - Molang</a>
  */
 public class MolangParser extends MathBuilder {
-	// Replace base variables map
-	public static final Map<String, LazyVariable> VARIABLES = new Object2ObjectOpenHashMap<>();
+	// Replace base variables map. Registered variables hold their global default values; per-animatable values are held by a MolangScope
+	public static final Map<String, LazyVariable> VARIABLES = new ConcurrentHashMap<>();
+	// Variables and slots are allocated while expressions are parsed, which happens concurrently during resource reloads, so allocation is guarded by this list
+	private static final List<LazyVariable> VARIABLE_SLOTS = new ObjectArrayList<>();
+	private static final Object2IntMap<String> LOCAL_VARIABLE_SLOTS = new Object2IntOpenHashMap<>();
+	private static long evaluationEpoch = 0;
 	public static final MolangVariableHolder ZERO = new MolangVariableHolder(null, new Constant(0));
 	public static final MolangVariableHolder ONE = new MolangVariableHolder(null, new Constant(1));
 	public static final String RETURN = "return ";
@@ -84,20 +91,32 @@ public class MolangParser extends MathBuilder {
 		register(new LazyVariable(MolangQueries.IS_IN_WATER, 0));
 		register(new LazyVariable(MolangQueries.IS_ON_GROUND, 0));
 		register(new LazyVariable(MolangQueries.TIME_OF_DAY, 0));
+		register(new LazyVariable(MolangQueries.MOON_PHASE, 0));
 		register(new LazyVariable(MolangQueries.IS_ON_FIRE, 0));
 		register(new LazyVariable(MolangQueries.GROUND_SPEED, 0));
 	}
 
 	/**
 	 * Register a new {@link Variable} with the {@code MolangParser}.<br>
-	 * Ideally should be called from the mod constructor.
+	 * Ideally should be called from the mod constructor.<br>
+	 * Re-registering a variable by the same name replaces the previous variable, keeping its slot index
 	 */
 	@Override
 	public void register(Variable variable) {
-		if (!(variable instanceof LazyVariable))
-			variable = LazyVariable.from(variable);
+		LazyVariable lazyVariable = variable instanceof LazyVariable lazy ? lazy : LazyVariable.from(variable);
 
-		VARIABLES.put(variable.getName(), (LazyVariable)variable);
+		synchronized (VARIABLE_SLOTS) {
+			LazyVariable existing = VARIABLES.put(lazyVariable.getName(), lazyVariable);
+
+			if (existing != null && existing.getSlot() >= 0) {
+				lazyVariable.setSlot(existing.getSlot());
+				VARIABLE_SLOTS.set(existing.getSlot(), lazyVariable);
+			}
+			else {
+				lazyVariable.setSlot(VARIABLE_SLOTS.size());
+				VARIABLE_SLOTS.add(lazyVariable);
+			}
+		}
 	}
 
 	/**
@@ -120,24 +139,98 @@ public class MolangParser extends MathBuilder {
 			variable.set(value);
 	}
 
+	/**
+	 * Set the value supplier for the variable registered to the given {@link MolangParser#getSlot slot}
+	 * @see MolangParser#setValue(String, DoubleSupplier)
+	 */
+	public void setValue(int slot, DoubleSupplier value) {
+		VARIABLE_SLOTS.get(slot).set(value);
+	}
+
+	/**
+	 * Set a constant value for the variable registered to the given {@link MolangParser#getSlot slot}
+	 */
+	public void setValue(int slot, double value) {
+		VARIABLE_SLOTS.get(slot).set(value);
+	}
+
 	/**
 	 * Sets a memoized value supplier for a variable.<br>
-	 * This prevents re-calculation on successive calls, improving efficiency.<br>
+	 * The supplier is called at most once per {@link MolangParser#getEvaluationEpoch() evaluation epoch}, preventing re-calculation on successive calls.<br>
 	 * This should be used wherever per-call accuracy is not needed.
 	 */
 	public void setMemoizedValue(String name, DoubleSupplier value) {
-		getVariable(name).set(new DoubleSupplier() {
-			private final DoubleSupplier supplier = value;
-			private double computedValue = Double.MIN_VALUE;
+		getVariable(name).setMemoized(value);
+	}
+
+	/**
+	 * Sets a memoized value supplier for the variable registered to the given {@link MolangParser#getSlot slot}.<br>
+	 * Combined with a pre-allocated supplier, this allows for binding per-frame queries without any allocations
+	 * @see MolangParser#setMemoizedValue(String, DoubleSupplier)
+	 */
+	public void setMemoizedValue(int slot, DoubleSupplier value) {
+		VARIABLE_SLOTS.get(slot).setMemoized(value);
+	}
+
+	/**
+	 * Get the slot index of the registered {@link LazyVariable} for the given name, registering a new variable if one wasn't registered previously.<br>
+	 * Slot indices are stable for the lifetime of the game, so they can be resolved once and cached
+	 */
+	public int getSlot(String name) {
+		return getVariable(name).getSlot();
+	}
+
+	/**
+	 * Get the registered {@link LazyVariable} for the given {@link MolangParser#getSlot slot}
+	 */
+	public LazyVariable getVariable(int slot) {
+		return VARIABLE_SLOTS.get(slot);
+	}
+
+	/**
+	 * Get the number of variable slots allocated so far, including those of statement-local variables
+	 */
+	public static int getSlotCount() {
+		synchronized (VARIABLE_SLOTS) {
+			return VARIABLE_SLOTS.size();
+		}
+	}
 
-			@Override
-			public double getAsDouble() {
-				if (this.computedValue == Double.MIN_VALUE)
-					this.computedValue = this.supplier.getAsDouble();
+	/**
+	 * Allocate a slot for an unregistered, statement-local variable, so that its value is held by the {@link MolangScope#current() current scope}.<br>
+	 * Statement-local variables are only ever read after being assigned within their own statement,
+	 * so every statement-local variable of the same name shares one slot, keeping the number of slots fixed across reloads
+	 */
+	static void allocateSlot(LazyVariable variable) {
+		synchronized (VARIABLE_SLOTS) {
+			int slot = LOCAL_VARIABLE_SLOTS.getOrDefault(variable.getName(), -1);
+
+			if (slot < 0) {
+				slot = VARIABLE_SLOTS.size();
 
-				return this.computedValue;
+				VARIABLE_SLOTS.add(variable);
+				LOCAL_VARIABLE_SLOTS.put(variable.getName(), slot);
 			}
-		});
+
+			variable.setSlot(slot);
+		}
+	}
+
+	/**
+	 * Get the current evaluation epoch.<br>
+	 * Memoized variable values are only valid for the epoch they were calculated in
+	 */
+	public static long getEvaluationEpoch() {
+		return evaluationEpoch;
+	}
+
+	/**
+	 * Start a new evaluation epoch, invalidating all memoized global variable values.<br>
+	 * This is called before the queries for each animatable are applied.
+	 * Values memoized in a {@link MolangScope} are instead invalidated when the scope is {@link MolangScope#prepare prepared}
+	 */
+	public static void advanceEvaluationEpoch() {
+		evaluationEpoch++;
 	}
 
 	/**
@@ -147,7 +240,19 @@ public class MolangParser extends MathBuilder {
 	 */
 	@Override
 	public LazyVariable getVariable(String name) {
-		return VARIABLES.computeIfAbsent(name, key -> new LazyVariable(key, 0));
+		LazyVariable variable = VARIABLES.get(name);
+
+		if (variable != null)
+			return variable;
+
+		synchronized (VARIABLE_SLOTS) {
+			variable = VARIABLES.get(name);
+
+			if (variable == null)
+				register(variable = new LazyVariable(name, 0));
+
+			return variable;
+		}
 	}
 
 	public LazyVariable getVariable(String name, MolangCompoundValue currentStatement) {
@@ -179,7 +284,7 @@ public class MolangParser extends MathBuilder {
 				return new MolangValue(new Constant(Double.parseDouble(string)));
 			}
 			catch (NumberFormatException ex) {
-				return parseExpression(string);
+				return MolangCompiler.compileIfEnabled(parseExpression(string));
 			}
 		}
 
@@ -187,7 +292,7 @@ public class MolangParser extends MathBuilder {
 	}
 
 	/**
-	 * Parse a molang expression
+	 * Parse a molang expression, {@link MolangSimplifier simplifying} it where possible
 	 */
 	public static MolangValue parseExpression(String expression) throws MolangException {
 		MolangCompoundValue result = null;
@@ -209,7 +314,7 @@ public class MolangParser extends MathBuilder {
 		if (result == null)
 			throw new MolangException("Molang expression cannot be blank!");
 
-		return result;
+		return MolangSimplifier.simplify(result);
 	}
 
 	/**
@@ -232,8 +337,12 @@ public class MolangParser extends MathBuilder {
 				symbols = symbols.subList(2, symbols.size());
 				LazyVariable variable;
 
-				if (!VARIABLES.containsKey(name) && !currentStatement.locals.containsKey(name)) {
+				if (isPersistentVariable(name)) {
+					variable = INSTANCE.getVariable(name);
+				}
+				else if (!VARIABLES.containsKey(name) && !currentStatement.locals.containsKey(name)) {
 					currentStatement.locals.put(name, (variable = new LazyVariable(name, 0)));
+					allocateSlot(variable);
 				}
 				else {
 					variable = INSTANCE.getVariable(name, currentStatement);
@@ -249,6 +358,13 @@ public class MolangParser extends MathBuilder {
 		}
 	}
 
+	/**
+	 * Whether the given variable name is a {@code variable.*} variable, which persists per animatable instance across all expressions, rather than being local to its statement
+	 */
+	protected static boolean isPersistentVariable(String name) {
+		return name.startsWith("variable.") || name.startsWith("v.");
+	}
+
 	/**
 	 * Wrapper around {@link #parseSymbols(List)} to throw {@link MolangException}
 	 */
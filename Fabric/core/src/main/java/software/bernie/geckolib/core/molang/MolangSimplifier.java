@@ -0,0 +1,183 @@
+package software.bernie.geckolib.core.molang;
+
+import com.eliotlash.mclib.math.Constant;
+import com.eliotlash.mclib.math.Group;
+import com.eliotlash.mclib.math.IValue;
+import com.eliotlash.mclib.math.Negate;
+import com.eliotlash.mclib.math.Negative;
+import com.eliotlash.mclib.math.Operation;
+import com.eliotlash.mclib.math.Operator;
+import com.eliotlash.mclib.math.Ternary;
+import com.eliotlash.mclib.math.functions.Function;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import software.bernie.geckolib.core.molang.expressions.MolangCompoundValue;
+import software.bernie.geckolib.core.molang.expressions.MolangValue;
+import software.bernie.geckolib.core.molang.expressions.MolangVariableHolder;
+
+import java.util.Set;
+
+/**
+ * Simplification pass for parsed Molang expressions, applied by the {@link MolangParser} after parsing.<br>
+ * Simplification is purely algebraic, and is only ever applied to sub-trees that have no dependency on runtime state:
+ * <ul>
+ *     <li>{@link Operator Operators}, negations, and groups with only constant operands are folded into a single {@link Constant}</li>
+ *     <li>{@link Ternary Ternaries} with a constant condition are replaced with the branch they would always take</li>
+ *     <li>Identity operations such as {@code x + 0}, {@code x * 1}, and {@code x / 1} are eliminated.
+ *     Rewrites that could change the result for NaN or infinite operands, such as {@code x * 0} or {@code x ^ 0}, are not applied</li>
+ *     <li>The arguments of {@code math.*} functions are simplified, and deterministic functions with only constant arguments are folded</li>
+ * </ul>
+ * {@link com.eliotlash.mclib.math.Variable Variables}, assignments, and random functions are never folded.<br>
+ * A single-statement expression that simplifies to a constant is returned as a plain constant {@link MolangValue},
+ * so that it qualifies for the {@link MolangValue#isConstant() constant} fast paths at bake time.
+ */
+public final class MolangSimplifier {
+	private static final Set<String> DETERMINISTIC_FUNCTIONS = new ObjectOpenHashSet<>(new String[] {
+			"math.abs", "math.acos", "math.asin", "math.atan", "math.atan2", "math.ceil", "math.clamp", "math.cos", "math.exp", "math.floor",
+			"math.hermite_blend", "math.lerp", "math.lerprotate", "math.ln", "math.max", "math.min", "math.mod", "math.pi", "math.pow",
+			"math.round", "math.sin", "math.sqrt", "math.trunc"});
+
+	/**
+	 * Simplify a parsed expression
+	 * @param value The parsed expression
+	 * @return The simplified expression, or a constant {@link MolangValue} if the expression always evaluates to the same value
+	 */
+	public static MolangValue simplify(MolangValue value) {
+		if (value.isConstant())
+			return value;
+
+		if (value instanceof MolangCompoundValue compoundValue) {
+			for (int i = 0; i < compoundValue.values.size(); i++) {
+				compoundValue.values.set(i, simplify(compoundValue.values.get(i)));
+			}
+
+			if (compoundValue.values.size() == 1 && compoundValue.values.get(0).getClass() == MolangValue.class && compoundValue.values.get(0).getValueHolder() instanceof Constant constant)
+				return new MolangValue(constant);
+
+			return compoundValue;
+		}
+
+		if (value instanceof MolangVariableHolder variableHolder)
+			return variableHolder.variable == null ? value : new MolangVariableHolder(variableHolder.variable, simplifyNode(variableHolder.getValueHolder()));
+
+		if (value.getClass() == MolangValue.class)
+			return new MolangValue(simplifyNode(value.getValueHolder()), value.isReturnValue());
+
+		return value;
+	}
+
+	/**
+	 * Simplify a single node of a parsed expression, returning the original node if it can't be simplified
+	 */
+	public static IValue simplifyNode(IValue value) {
+		try {
+			return simplifyNodeUnchecked(value);
+		}
+		catch (ReflectiveOperationException ex) {
+			return value;
+		}
+	}
+
+	private static IValue simplifyNodeUnchecked(IValue value) throws ReflectiveOperationException {
+		if (value instanceof Group group) {
+			IValue inner = simplifyNode(MolangCompiler.getGroupValue(group));
+
+			return inner instanceof Constant ? inner : new Group(inner);
+		}
+
+		if (value instanceof Negative negative) {
+			IValue inner = simplifyNode(negative.value);
+
+			return inner instanceof Constant ? fold(new Negative(inner)) : new Negative(inner);
+		}
+
+		if (value instanceof Negate negate) {
+			IValue inner = simplifyNode(negate.value);
+
+			return inner instanceof Constant ? fold(new Negate(inner)) : new Negate(inner);
+		}
+
+		if (value instanceof Ternary ternary) {
+			IValue condition = simplifyNode(ternary.condition);
+
+			if (condition instanceof Constant)
+				return simplifyNode(condition.get() != 0 ? ternary.ifTrue : ternary.ifFalse);
+
+			return new Ternary(condition, simplifyNode(ternary.ifTrue), simplifyNode(ternary.ifFalse));
+		}
+
+		if (value instanceof Operator operator)
+			return simplifyOperator(operator.operation, simplifyNode(operator.a), simplifyNode(operator.b));
+
+		if (value instanceof Function function)
+			return simplifyFunction(function);
+
+		return value;
+	}
+
+	private static IValue simplifyOperator(Operation operation, IValue a, IValue b) {
+		if (a instanceof Constant && b instanceof Constant)
+			return fold(new Operator(operation, a, b));
+
+		if (operation == Operation.ADD) {
+			if (isConstant(a, 0))
+				return b;
+
+			if (isConstant(b, 0))
+				return a;
+		}
+		else if (operation == Operation.SUB) {
+			if (isConstant(b, 0))
+				return a;
+		}
+		else if (operation == Operation.MUL) {
+			if (isConstant(a, 1))
+				return b;
+
+			if (isConstant(b, 1))
+				return a;
+		}
+		else if (operation == Operation.DIV) {
+			if (isConstant(b, 1))
+				return a;
+		}
+		else if (operation == Operation.POW) {
+			if (isConstant(b, 1))
+				return a;
+		}
+
+		return new Operator(operation, a, b);
+	}
+
+	private static IValue simplifyFunction(Function function) throws ReflectiveOperationException {
+		IValue[] args = MolangCompiler.getFunctionArgs(function);
+		boolean constantArgs = true;
+		boolean changed = false;
+
+		for (int i = 0; i < args.length; i++) {
+			IValue arg = simplifyNode(args[i]);
+
+			if (arg != args[i]) {
+				args[i] = arg;
+				changed = true;
+			}
+
+			if (!(arg instanceof Constant))
+				constantArgs = false;
+		}
+
+		Function simplified = changed ? MolangCompiler.rebuildFunction(function, args) : function;
+
+		if (constantArgs && DETERMINISTIC_FUNCTIONS.contains(MolangCompiler.getFunctionName(function)))
+			return fold(simplified);
+
+		return simplified;
+	}
+
+	private static boolean isConstant(IValue value, double constant) {
+		return value instanceof Constant && value.get() == constant;
+	}
+
+	private static Constant fold(IValue value) {
+		return new Constant(value.get());
+	}
+}
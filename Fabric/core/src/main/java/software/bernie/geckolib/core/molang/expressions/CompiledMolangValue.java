@@ -0,0 +1,44 @@
+package software.bernie.geckolib.core.molang.expressions;
+
+import com.eliotlash.mclib.math.IValue;
+
+/**
+ * A {@link MolangValue} that evaluates a compiled form of its source expression.<br>
+ * The source expression is retained as the {@link MolangValue#getValueHolder() value holder}, so it can still be inspected or printed as normal
+ * @see software.bernie.geckolib.core.molang.MolangCompiler
+ */
+public class CompiledMolangValue extends MolangValue {
+	private final MolangValue source;
+	private final IValue compiled;
+
+	public CompiledMolangValue(MolangValue source, IValue compiled) {
+		super(source, source.isReturnValue());
+
+		this.source = source;
+		this.compiled = compiled;
+	}
+
+	@Override
+	public double get() {
+		return this.compiled.get();
+	}
+
+	/**
+	 * Get the original, uncompiled expression
+	 */
+	public MolangValue getSource() {
+		return this.source;
+	}
+
+	/**
+	 * Get the compiled expression
+	 */
+	public IValue getCompiled() {
+		return this.compiled;
+	}
+
+	@Override
+	public String toString() {
+		return this.source.toString();
+	}
+}
@@ -1,18 +1,50 @@
 package software.bernie.geckolib.core.object;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
 import java.util.Map;
 import java.util.Objects;
 
 /**
- * Ticket object to define a typed data object
+ * Ticket object to define a typed data object.<br>
+ * Tickets are equal if they have the same id and object type, and equal tickets refer to the same data.<br>
+ * Each distinct id and object type pair is given a dense index the first time a ticket is created for it, used for array-backed storage in {@link DataTicketStore}.
+ * Creating equal tickets on demand is supported, but tickets should still be created once and stored as constants where possible
  */
 public class DataTicket<D> {
+	private static final Object2IntMap<TicketKey> TICKET_INDICES = new Object2IntOpenHashMap<>();
+
 	private final String id;
 	private final Class<? extends D> objectType;
+	private final int index;
 
 	public DataTicket(String id, Class<? extends D> objectType) {
 		this.id = id;
 		this.objectType = objectType;
+		this.index = getIndex(new TicketKey(id, objectType));
+	}
+
+	private static int getIndex(TicketKey key) {
+		synchronized (TICKET_INDICES) {
+			if (TICKET_INDICES.containsKey(key))
+				return TICKET_INDICES.getInt(key);
+
+			int index = TICKET_INDICES.size();
+
+			TICKET_INDICES.put(key, index);
+
+			return index;
+		}
+	}
+
+	/**
+	 * Get the total number of distinct {@code DataTickets} that have been created
+	 */
+	public static int getTicketCount() {
+		synchronized (TICKET_INDICES) {
+			return TICKET_INDICES.size();
+		}
 	}
 
 	public String id() {
@@ -23,6 +55,24 @@ public class DataTicket<D> {
 		return this.objectType;
 	}
 
+	/**
+	 * Get the dense index of this ticket, used for its slot in a {@link DataTicketStore}
+	 */
+	public int index() {
+		return this.index;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+
+		if (!(obj instanceof DataTicket<?> other))
+			return false;
+
+		return this.index == other.index;
+	}
+
 	@Override
 	public int hashCode() {
 		return Objects.hash(this.id, this.objectType);
@@ -36,4 +86,9 @@ public class DataTicket<D> {
 	public <D> D getData(Map<? extends DataTicket<?>, ?> dataMap) {
 		return (D)dataMap.get(this);
 	}
+
+	/**
+	 * The identity of a ticket, used to give equal tickets the same index
+	 */
+	private record TicketKey(String id, Class<?> objectType) {}
 }
@@ -0,0 +1,237 @@
+package software.bernie.geckolib.core.object;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Array-backed storage for {@link DataTicket} data, indexed by {@link DataTicket#index() ticket index}.<br>
+ * Double values can be stored and retrieved without boxing via {@link DataTicketStore#setDouble} and {@link DataTicketStore#getDouble},
+ * and are only boxed if retrieved via {@link DataTicketStore#getData}.<br>
+ * The store can be {@link DataTicketStore#clear() cleared} and re-used without re-allocating its storage
+ */
+public final class DataTicketStore {
+	private static final byte EMPTY = 0;
+	private static final byte OBJECT = 1;
+	private static final byte DOUBLE = 2;
+
+	private DataTicket<?>[] tickets = new DataTicket<?>[0];
+	private Object[] values = new Object[0];
+	private double[] doubleValues = new double[0];
+	private byte[] types = new byte[0];
+	private int size = 0;
+	private Map<DataTicket<?>, Object> mapView = null;
+
+	/**
+	 * Get the data stored for the given {@link DataTicket}
+	 * @return The stored data, or null if no data has been stored for the ticket
+	 */
+	@SuppressWarnings("unchecked")
+	public <D> D getData(DataTicket<D> dataTicket) {
+		int index = dataTicket.index();
+
+		// Data is only ever stored via the ticket's own typed setters, so the value in a ticket's slot is always of the ticket's type
+		return index < this.size ? (D)getValue(index) : null;
+	}
+
+	/**
+	 * Get the double value stored for the given {@link DataTicket}, without boxing
+	 * @param dataTicket The ticket to get the value for
+	 * @param defaultValue The value to return if no value has been stored for the ticket
+	 * @return The stored value, or the default value if none has been stored
+	 */
+	public double getDouble(DataTicket<Double> dataTicket, double defaultValue) {
+		int index = dataTicket.index();
+
+		if (index >= this.size)
+			return defaultValue;
+
+		return switch (this.types[index]) {
+			case DOUBLE -> this.doubleValues[index];
+			case OBJECT -> this.values[index] instanceof Double value ? value : defaultValue;
+			default -> defaultValue;
+		};
+	}
+
+	/**
+	 * Whether any data has been stored for the given {@link DataTicket}
+	 */
+	public boolean hasData(DataTicket<?> dataTicket) {
+		int index = dataTicket.index();
+
+		return index < this.size && this.types[index] != EMPTY;
+	}
+
+	/**
+	 * Store the given data for the given {@link DataTicket}
+	 */
+	public <D> void setData(DataTicket<D> dataTicket, D data) {
+		int index = prepareSlot(dataTicket);
+
+		this.values[index] = data;
+		this.types[index] = OBJECT;
+	}
+
+	/**
+	 * Store the given double value for the given {@link DataTicket}, without boxing
+	 */
+	public void setDouble(DataTicket<Double> dataTicket, double value) {
+		int index = prepareSlot(dataTicket);
+
+		this.values[index] = null;
+		this.doubleValues[index] = value;
+		this.types[index] = DOUBLE;
+	}
+
+	/**
+	 * Remove all stored data, retaining the allocated storage for re-use
+	 */
+	public void clear() {
+		Arrays.fill(this.tickets, 0, this.size, null);
+		Arrays.fill(this.values, 0, this.size, null);
+		Arrays.fill(this.types, 0, this.size, EMPTY);
+
+		this.size = 0;
+	}
+
+	/**
+	 * Get a live view of the stored data as a map, keyed by {@link DataTicket}.<br>
+	 * Changes to this store are reflected in the view, and entries can be removed from the view, but not added.
+	 * Double values are boxed each time they are read through the view
+	 */
+	public Map<DataTicket<?>, Object> asMap() {
+		if (this.mapView == null)
+			this.mapView = new MapView();
+
+		return this.mapView;
+	}
+
+	private Object getValue(int index) {
+		return switch (this.types[index]) {
+			case OBJECT -> this.values[index];
+			case DOUBLE -> this.doubleValues[index];
+			default -> null;
+		};
+	}
+
+	private int nextFilledIndex(int index) {
+		while (index < this.size && this.types[index] == EMPTY) {
+			index++;
+		}
+
+		return index;
+	}
+
+	private void clearIndex(int index) {
+		this.tickets[index] = null;
+		this.values[index] = null;
+		this.types[index] = EMPTY;
+	}
+
+	private int prepareSlot(DataTicket<?> dataTicket) {
+		int index = dataTicket.index();
+
+		if (index >= this.types.length) {
+			int capacity = Math.max(index + 1, DataTicket.getTicketCount());
+
+			this.tickets = Arrays.copyOf(this.tickets, capacity);
+			this.values = Arrays.copyOf(this.values, capacity);
+			this.doubleValues = Arrays.copyOf(this.doubleValues, capacity);
+			this.types = Arrays.copyOf(this.types, capacity);
+		}
+
+		if (index >= this.size)
+			this.size = index + 1;
+
+		this.tickets[index] = dataTicket;
+
+		return index;
+	}
+
+	private final class MapView extends AbstractMap<DataTicket<?>, Object> {
+		private final Set<Entry<DataTicket<?>, Object>> entries = new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<DataTicket<?>, Object>> iterator() {
+				return new Iterator<>() {
+					private int nextIndex = nextFilledIndex(0);
+					private int lastIndex = -1;
+
+					@Override
+					public boolean hasNext() {
+						return this.nextIndex < DataTicketStore.this.size;
+					}
+
+					@Override
+					public Entry<DataTicket<?>, Object> next() {
+						if (!hasNext())
+							throw new NoSuchElementException();
+
+						this.lastIndex = this.nextIndex;
+						this.nextIndex = nextFilledIndex(this.nextIndex + 1);
+
+						return new SimpleImmutableEntry<>(DataTicketStore.this.tickets[this.lastIndex], getValue(this.lastIndex));
+					}
+
+					@Override
+					public void remove() {
+						if (this.lastIndex < 0)
+							throw new IllegalStateException();
+
+						clearIndex(this.lastIndex);
+
+						this.lastIndex = -1;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				int count = 0;
+
+				for (int i = 0; i < DataTicketStore.this.size; i++) {
+					if (DataTicketStore.this.types[i] != EMPTY)
+						count++;
+				}
+
+				return count;
+			}
+
+			@Override
+			public void clear() {
+				DataTicketStore.this.clear();
+			}
+		};
+
+		@Override
+		public Set<Entry<DataTicket<?>, Object>> entrySet() {
+			return this.entries;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return key instanceof DataTicket<?> dataTicket && hasData(dataTicket);
+		}
+
+		@Override
+		public Object get(Object key) {
+			return key instanceof DataTicket<?> dataTicket && hasData(dataTicket) ? getValue(dataTicket.index()) : null;
+		}
+
+		@Override
+		public Object remove(Object key) {
+			if (!containsKey(key))
+				return null;
+
+			int index = ((DataTicket<?>)key).index();
+			Object value = getValue(index);
+
+			clearIndex(index);
+
+			return value;
+		}
+	}
+}
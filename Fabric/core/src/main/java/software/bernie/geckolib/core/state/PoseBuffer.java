@@ -0,0 +1,135 @@
+package software.bernie.geckolib.core.state;
+
+import software.bernie.geckolib.core.animatable.model.CoreBakedGeoModel;
+import software.bernie.geckolib.core.animatable.model.CoreGeoBone;
+
+/**
+ * A per-animatable buffer of the last two poses evaluated for a model, used for fixed-rate and reduced level of detail animation evaluation.<br>
+ * Render frames between evaluations are interpolated between, or re-apply, the buffered poses rather than re-evaluating the animations each frame.<br>
+ * Poses are stored as packed rotation, position, and scale values for each bone, indexed by {@link CoreGeoBone#getIndex() bone index}
+ */
+public class PoseBuffer {
+	private float[] previousPose = new float[0];
+	private float[] currentPose = new float[0];
+	private CoreBakedGeoModel model = null;
+	private int boneCount = 0;
+	private double currentStepTime = Double.NaN;
+	private int skippedFrames = 0;
+
+	/**
+	 * Whether the given evaluation step hasn't been buffered yet, and needs to be evaluated
+	 * @param stepTime The animation time (in ticks) of the evaluation step
+	 * @param model The currently active model
+	 * @param boneCount The number of bones in the currently active model
+	 */
+	public boolean needsStep(double stepTime, CoreBakedGeoModel model, int boneCount) {
+		return stepTime != this.currentStepTime || model != this.model || boneCount != this.boneCount;
+	}
+
+	/**
+	 * Whether a pose has been buffered for the given model
+	 * @param model The currently active model
+	 * @param boneCount The number of bones in the currently active model
+	 */
+	public boolean hasPose(CoreBakedGeoModel model, int boneCount) {
+		return model == this.model && boneCount == this.boneCount && !Double.isNaN(this.currentStepTime);
+	}
+
+	/**
+	 * Get the animation time (in ticks) of the most recently buffered pose
+	 */
+	public double getStepTime() {
+		return this.currentStepTime;
+	}
+
+	/**
+	 * Count a render frame that would otherwise evaluate the animations, returning whether it should be skipped to meet the given update interval
+	 * @param updateInterval The number of render frames between each evaluation
+	 * @return Whether this frame should re-use the buffered pose instead of evaluating
+	 */
+	public boolean skipFrame(int updateInterval) {
+		if (++this.skippedFrames < updateInterval)
+			return true;
+
+		this.skippedFrames = 0;
+
+		return false;
+	}
+
+	/**
+	 * Buffer the current pose of the given bones as the newest evaluated pose.<br>
+	 * If the new step doesn't directly follow the previously buffered step, the previous pose is discarded and the new pose is used for both
+	 * @param bones The bones to buffer, indexed by bone index
+	 * @param boneCount The number of bones
+	 * @param model The currently active model
+	 * @param stepTime The animation time (in ticks) of the evaluation step
+	 * @param stepLength The length of time (in ticks) between each evaluation step
+	 */
+	public void push(CoreGeoBone[] bones, int boneCount, CoreBakedGeoModel model, double stepTime, double stepLength) {
+		boolean continuous = model == this.model && boneCount == this.boneCount && stepTime > this.currentStepTime && stepTime - this.currentStepTime <= stepLength * 1.5d;
+		float[] pose = this.previousPose;
+
+		if (pose.length < boneCount * 9)
+			pose = new float[boneCount * 9];
+
+		for (int i = 0; i < boneCount; i++) {
+			CoreGeoBone bone = bones[i];
+			int offset = i * 9;
+
+			pose[offset] = bone.getRotX();
+			pose[offset + 1] = bone.getRotY();
+			pose[offset + 2] = bone.getRotZ();
+			pose[offset + 3] = bone.getPosX();
+			pose[offset + 4] = bone.getPosY();
+			pose[offset + 5] = bone.getPosZ();
+			pose[offset + 6] = bone.getScaleX();
+			pose[offset + 7] = bone.getScaleY();
+			pose[offset + 8] = bone.getScaleZ();
+		}
+
+		if (!continuous) {
+			if (this.currentPose.length < pose.length)
+				this.currentPose = new float[pose.length];
+
+			System.arraycopy(pose, 0, this.currentPose, 0, boneCount * 9);
+		}
+
+		this.previousPose = this.currentPose;
+		this.currentPose = pose;
+		this.model = model;
+		this.boneCount = boneCount;
+		this.currentStepTime = stepTime;
+	}
+
+	/**
+	 * Apply the interpolated pose between the two buffered poses to the given bones
+	 * @param bones The bones to apply the pose to, indexed by bone index
+	 * @param boneCount The number of bones
+	 * @param progress The progress from the previous pose to the current pose, between 0 and 1
+	 */
+	public void apply(CoreGeoBone[] bones, int boneCount, float progress) {
+		if (boneCount != this.boneCount)
+			return;
+
+		float[] from = this.previousPose;
+		float[] to = this.currentPose;
+
+		progress = Math.max(0, Math.min(1, progress));
+
+		for (int i = 0; i < boneCount; i++) {
+			CoreGeoBone bone = bones[i];
+			int offset = i * 9;
+
+			bone.setRotX(from[offset] + (to[offset] - from[offset]) * progress);
+			bone.setRotY(from[offset + 1] + (to[offset + 1] - from[offset + 1]) * progress);
+			bone.setRotZ(from[offset + 2] + (to[offset + 2] - from[offset + 2]) * progress);
+			bone.setPosX(from[offset + 3] + (to[offset + 3] - from[offset + 3]) * progress);
+			bone.setPosY(from[offset + 4] + (to[offset + 4] - from[offset + 4]) * progress);
+			bone.setPosZ(from[offset + 5] + (to[offset + 5] - from[offset + 5]) * progress);
+			bone.setScaleX(from[offset + 6] + (to[offset + 6] - from[offset + 6]) * progress);
+			bone.setScaleY(from[offset + 7] + (to[offset + 7] - from[offset + 7]) * progress);
+			bone.setScaleZ(from[offset + 8] + (to[offset + 8] - from[offset + 8]) * progress);
+			bone.resetStateChanges();
+		}
+	}
+}
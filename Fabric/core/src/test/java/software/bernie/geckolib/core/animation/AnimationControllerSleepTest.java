@@ -0,0 +1,117 @@
+package software.bernie.geckolib.core.animation;
+
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.animatable.model.CoreGeoBone;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestAnimatable;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestModel;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AnimationControllerSleepTest {
+	private static final RawAnimation RAISE = RawAnimation.begin().thenPlayAndHold("raise");
+
+	private int handlerCalls = 0;
+
+	private TestAnimatable createAnimatable(boolean sleepWhenIdle) {
+		return new TestAnimatable(animatable -> {
+			AnimationController<TestAnimatable> controller = new AnimationController<>(animatable, "main", 0, state -> {
+				this.handlerCalls++;
+
+				return state.setAndContinue(RAISE);
+			});
+
+			return List.of(sleepWhenIdle ? controller.sleepWhenIdle() : controller);
+		});
+	}
+
+	private static TestModel createModel() {
+		return new TestModel(2, AnimationTestFixture.rotationAnimation("raise", 2, 5, Animation.LoopType.HOLD_ON_LAST_FRAME, 1, 2));
+	}
+
+	@Test
+	public void sleepsOnceHoldingLastFrame() {
+		TestModel model = createModel();
+		TestAnimatable animatable = createAnimatable(true);
+		AnimationController<TestAnimatable> controller = animatable.getManager().getAnimationControllers().get("main");
+		double time = 0;
+
+		while (time < 20 && !controller.isSleeping()) {
+			model.animate(animatable, time += 1);
+		}
+
+		assertTrue(controller.isSleeping(), "Controller should fall asleep after reaching its last frame");
+
+		int callsWhenAsleep = this.handlerCalls;
+		CoreGeoBone bone = model.getAnimationProcessor().getBone(0);
+
+		for (int i = 0; i < 10; i++) {
+			model.animate(animatable, time += 1);
+		}
+
+		assertEquals(callsWhenAsleep, this.handlerCalls, "A sleeping controller shouldn't call its state handler");
+		assertEquals(2, bone.getRotX(), 1e-5, "A sleeping controller should keep applying its held pose");
+	}
+
+	@Test
+	public void wakesWhenRequested() {
+		TestModel model = createModel();
+		TestAnimatable animatable = createAnimatable(true);
+		AnimationController<TestAnimatable> controller = animatable.getManager().getAnimationControllers().get("main");
+		double time = 0;
+
+		while (time < 20 && !controller.isSleeping()) {
+			model.animate(animatable, time += 1);
+		}
+
+		int callsWhenAsleep = this.handlerCalls;
+
+		controller.wake();
+		model.animate(animatable, time + 1);
+
+		assertEquals(callsWhenAsleep + 1, this.handlerCalls, "A woken controller should call its state handler again");
+	}
+
+	@Test
+	public void neverSleepsUnlessAllowed() {
+		TestModel model = createModel();
+		TestAnimatable animatable = createAnimatable(false);
+		AnimationController<TestAnimatable> controller = animatable.getManager().getAnimationControllers().get("main");
+
+		for (int i = 1; i <= 30; i++) {
+			model.animate(animatable, i);
+		}
+
+		assertFalse(controller.isSleeping());
+		assertEquals(30, this.handlerCalls, "Controllers that aren't allowed to sleep should call their state handler every frame");
+	}
+
+	@Test
+	public void wakesWhenConditionIsMet() {
+		TestModel model = createModel();
+		boolean[] wake = {false};
+		TestAnimatable animatable = new TestAnimatable(target -> List.of(new AnimationController<>(target, "main", 0, state -> {
+			this.handlerCalls++;
+
+			return state.setAndContinue(RAISE);
+		}).sleepWhenIdle(sleepingAnimatable -> wake[0])));
+		AnimationController<TestAnimatable> controller = animatable.getManager().getAnimationControllers().get("main");
+		double time = 0;
+
+		while (time < 20 && !controller.isSleeping()) {
+			model.animate(animatable, time += 1);
+		}
+
+		int callsWhenAsleep = this.handlerCalls;
+
+		model.animate(animatable, time += 1);
+		assertEquals(callsWhenAsleep, this.handlerCalls);
+
+		wake[0] = true;
+		model.animate(animatable, time + 1);
+		assertEquals(callsWhenAsleep + 1, this.handlerCalls, "The controller should wake as soon as its wake condition is met");
+	}
+}
@@ -0,0 +1,427 @@
+package software.bernie.geckolib.core.animation;
+
+import com.eliotlash.mclib.math.Constant;
+import com.eliotlash.mclib.math.IValue;
+import software.bernie.geckolib.core.animatable.GeoAnimatable;
+import software.bernie.geckolib.core.animatable.instance.AnimatableInstanceCache;
+import software.bernie.geckolib.core.animatable.instance.SingletonAnimatableInstanceCache;
+import software.bernie.geckolib.core.animatable.model.CoreBakedGeoModel;
+import software.bernie.geckolib.core.animatable.model.CoreGeoBone;
+import software.bernie.geckolib.core.animatable.model.CoreGeoModel;
+import software.bernie.geckolib.core.keyframe.BoneAnimation;
+import software.bernie.geckolib.core.keyframe.Keyframe;
+import software.bernie.geckolib.core.keyframe.KeyframeStack;
+import software.bernie.geckolib.core.keyframe.event.data.CustomInstructionKeyframeData;
+import software.bernie.geckolib.core.keyframe.event.data.ParticleKeyframeData;
+import software.bernie.geckolib.core.keyframe.event.data.SoundKeyframeData;
+import software.bernie.geckolib.core.state.BoneSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Minimal core-only implementations of the model, bone, and animatable types, for driving the {@link AnimationProcessor} without Minecraft
+ */
+public final class AnimationTestFixture {
+	/**
+	 * Build an animation that rotates every bone around the X axis, ramping linearly between the given values once per keyframe
+	 * @param name The name of the animation
+	 * @param boneCount The number of bones to animate, named {@code bone0} to {@code bone<boneCount - 1>}
+	 * @param keyframeLength The length (in ticks) of each keyframe
+	 * @param loopType The loop type of the animation
+	 * @param values The rotation values at the end of each keyframe. The first keyframe starts at 0
+	 */
+	public static Animation rotationAnimation(String name, int boneCount, double keyframeLength, Animation.LoopType loopType, double... values) {
+		BoneAnimation[] boneAnimations = new BoneAnimation[boneCount];
+
+		for (int i = 0; i < boneCount; i++) {
+			boneAnimations[i] = new BoneAnimation("bone" + i, keyframes(keyframeLength, values), new KeyframeStack<>(), new KeyframeStack<>());
+		}
+
+		return new Animation(name, keyframeLength * values.length, loopType, boneAnimations,
+				new Animation.Keyframes(new SoundKeyframeData[0], new ParticleKeyframeData[0], new CustomInstructionKeyframeData[0]));
+	}
+
+	/**
+	 * Build a keyframe stack that ramps linearly between the given values on the X axis, and stays at 0 on the Y and Z axes
+	 */
+	public static KeyframeStack<Keyframe<IValue>> keyframes(double keyframeLength, double... values) {
+		List<Keyframe<IValue>> xFrames = new ArrayList<>();
+		List<Keyframe<IValue>> yFrames = new ArrayList<>();
+		List<Keyframe<IValue>> zFrames = new ArrayList<>();
+		IValue previous = new Constant(0);
+
+		for (double value : values) {
+			IValue next = new Constant(value);
+
+			xFrames.add(new Keyframe<>(keyframeLength, previous, next));
+			yFrames.add(new Keyframe<>(keyframeLength, new Constant(0), new Constant(0)));
+			zFrames.add(new Keyframe<>(keyframeLength, new Constant(0), new Constant(0)));
+
+			previous = next;
+		}
+
+		return new KeyframeStack<>(xFrames, yFrames, zFrames);
+	}
+
+	/**
+	 * A bone with no geometry, storing only its transforms
+	 */
+	public static class TestBone implements CoreGeoBone {
+		private final String name;
+		private int index = -1;
+		private float rotX = 0;
+		private float rotY = 0;
+		private float rotZ = 0;
+		private float posX = 0;
+		private float posY = 0;
+		private float posZ = 0;
+		private float scaleX = 1;
+		private float scaleY = 1;
+		private float scaleZ = 1;
+		private boolean rotationChanged = false;
+		private boolean positionChanged = false;
+		private boolean scaleChanged = false;
+		private BoneSnapshot initialSnapshot = null;
+
+		public TestBone(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public int getIndex() {
+			return this.index;
+		}
+
+		@Override
+		public void setIndex(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public CoreGeoBone getParent() {
+			return null;
+		}
+
+		@Override
+		public float getRotX() {
+			return this.rotX;
+		}
+
+		@Override
+		public float getRotY() {
+			return this.rotY;
+		}
+
+		@Override
+		public float getRotZ() {
+			return this.rotZ;
+		}
+
+		@Override
+		public float getPosX() {
+			return this.posX;
+		}
+
+		@Override
+		public float getPosY() {
+			return this.posY;
+		}
+
+		@Override
+		public float getPosZ() {
+			return this.posZ;
+		}
+
+		@Override
+		public float getScaleX() {
+			return this.scaleX;
+		}
+
+		@Override
+		public float getScaleY() {
+			return this.scaleY;
+		}
+
+		@Override
+		public float getScaleZ() {
+			return this.scaleZ;
+		}
+
+		@Override
+		public void setRotX(float value) {
+			this.rotX = value;
+
+			markRotationAsChanged();
+		}
+
+		@Override
+		public void setRotY(float value) {
+			this.rotY = value;
+
+			markRotationAsChanged();
+		}
+
+		@Override
+		public void setRotZ(float value) {
+			this.rotZ = value;
+
+			markRotationAsChanged();
+		}
+
+		@Override
+		public void setPosX(float value) {
+			this.posX = value;
+
+			markPositionAsChanged();
+		}
+
+		@Override
+		public void setPosY(float value) {
+			this.posY = value;
+
+			markPositionAsChanged();
+		}
+
+		@Override
+		public void setPosZ(float value) {
+			this.posZ = value;
+
+			markPositionAsChanged();
+		}
+
+		@Override
+		public void setScaleX(float value) {
+			this.scaleX = value;
+
+			markScaleAsChanged();
+		}
+
+		@Override
+		public void setScaleY(float value) {
+			this.scaleY = value;
+
+			markScaleAsChanged();
+		}
+
+		@Override
+		public void setScaleZ(float value) {
+			this.scaleZ = value;
+
+			markScaleAsChanged();
+		}
+
+		@Override public void setPivotX(float value) {}
+		@Override public void setPivotY(float value) {}
+		@Override public void setPivotZ(float value) {}
+		@Override
+		public float getPivotX() {
+			return 0;
+		}
+
+		@Override
+		public float getPivotY() {
+			return 0;
+		}
+
+		@Override
+		public float getPivotZ() {
+			return 0;
+		}
+
+		@Override
+		public boolean isHidden() {
+			return false;
+		}
+
+		@Override
+		public boolean isHidingChildren() {
+			return false;
+		}
+
+		@Override public void setHidden(boolean hidden) {}
+		@Override public void setChildrenHidden(boolean hideChildren) {}
+		@Override
+		public void markScaleAsChanged() {
+			this.scaleChanged = true;
+		}
+
+		@Override
+		public void markRotationAsChanged() {
+			this.rotationChanged = true;
+		}
+
+		@Override
+		public void markPositionAsChanged() {
+			this.positionChanged = true;
+		}
+
+		@Override
+		public boolean hasScaleChanged() {
+			return this.scaleChanged;
+		}
+
+		@Override
+		public boolean hasRotationChanged() {
+			return this.rotationChanged;
+		}
+
+		@Override
+		public boolean hasPositionChanged() {
+			return this.positionChanged;
+		}
+
+		@Override
+		public void resetStateChanges() {
+			this.rotationChanged = false;
+			this.positionChanged = false;
+			this.scaleChanged = false;
+		}
+
+		@Override
+		public BoneSnapshot getInitialSnapshot() {
+			return this.initialSnapshot;
+		}
+
+		@Override
+		public List<? extends CoreGeoBone> getChildBones() {
+			return List.of();
+		}
+
+		@Override
+		public void saveInitialSnapshot() {
+			if (this.initialSnapshot == null)
+				this.initialSnapshot = new BoneSnapshot(this);
+		}
+	}
+
+	/**
+	 * A flat baked model of {@link TestBone TestBones} named {@code bone0} to {@code bone<boneCount - 1>}
+	 */
+	public static class TestBakedModel implements CoreBakedGeoModel {
+		private final List<TestBone> bones = new ArrayList<>();
+
+		public TestBakedModel(int boneCount) {
+			for (int i = 0; i < boneCount; i++) {
+				this.bones.add(new TestBone("bone" + i));
+			}
+		}
+
+		@Override
+		public List<TestBone> getBones() {
+			return this.bones;
+		}
+
+		@Override
+		public Optional<TestBone> getBone(String name) {
+			return this.bones.stream().filter(bone -> bone.getName().equals(name)).findFirst();
+		}
+	}
+
+	/**
+	 * A model that serves a fixed set of animations, and animates at the configured {@link TestModel#stepLength step length} and {@link TestModel#lod level of detail}
+	 */
+	public static class TestModel implements CoreGeoModel<TestAnimatable> {
+		private final AnimationProcessor<TestAnimatable> processor = new AnimationProcessor<>(this);
+		private final TestBakedModel bakedModel;
+		private final List<Animation> animations;
+		public double stepLength = 0;
+		public AnimationLod lod = AnimationLod.FULL;
+
+		public TestModel(int boneCount, Animation... animations) {
+			this.bakedModel = new TestBakedModel(boneCount);
+			this.animations = List.of(animations);
+
+			this.processor.setActiveModel(this.bakedModel);
+		}
+
+		/**
+		 * Animate the given animatable at the given animation time, as a render frame would
+		 */
+		public void animate(TestAnimatable animatable, double animTime) {
+			animatable.time = animTime;
+
+			handleAnimations(animatable, 0, animatable.state);
+		}
+
+		@Override
+		public CoreBakedGeoModel getBakedGeoModel(String location) {
+			return this.bakedModel;
+		}
+
+		@Override
+		public AnimationProcessor<TestAnimatable> getAnimationProcessor() {
+			return this.processor;
+		}
+
+		@Override
+		public Animation getAnimation(TestAnimatable animatable, String name) {
+			for (Animation animation : this.animations) {
+				if (animation.name().equals(name))
+					return animation;
+			}
+
+			return null;
+		}
+
+		@Override
+		public void handleAnimations(TestAnimatable animatable, long instanceId, AnimationState<TestAnimatable> animationState) {
+			AnimatableManager<TestAnimatable> manager = animatable.getAnimatableInstanceCache().getManagerForId(instanceId);
+
+			if (manager.getFirstTickTime() == -1)
+				manager.startedAt(animatable.time);
+
+			manager.updatedAt(animatable.time);
+			this.processor.preAnimationSetup(animatable, animatable.time);
+			this.processor.tickAnimation(animatable, this, manager, animatable.time, animationState, false, this.stepLength, this.lod);
+		}
+	}
+
+	/**
+	 * An animatable whose controllers are provided at construction, and whose animation time is driven by {@link TestModel#animate}
+	 */
+	public static class TestAnimatable implements GeoAnimatable {
+		private final AnimatableInstanceCache cache = new SingletonAnimatableInstanceCache(this);
+		private final Function<TestAnimatable, List<AnimationController<TestAnimatable>>> controllerFactory;
+		private final AnimationState<TestAnimatable> state = new AnimationState<>(this, 0, 0, 0, false);
+		public double sharedPoseInterval = 0;
+		private double time = 0;
+
+		public TestAnimatable(Function<TestAnimatable, List<AnimationController<TestAnimatable>>> controllerFactory) {
+			this.controllerFactory = controllerFactory;
+		}
+
+		public AnimatableManager<TestAnimatable> getManager() {
+			return this.cache.getManagerForId(0);
+		}
+
+		@Override
+		public void registerControllers(AnimatableManager.ControllerRegistrar controllers) {
+			for (AnimationController<TestAnimatable> controller : this.controllerFactory.apply(this)) {
+				controllers.add(controller);
+			}
+		}
+
+		@Override
+		public AnimatableInstanceCache getAnimatableInstanceCache() {
+			return this.cache;
+		}
+
+		@Override
+		public double getTick(Object object) {
+			return this.time;
+		}
+
+		@Override
+		public double getSharedPoseInterval() {
+			return this.sharedPoseInterval;
+		}
+	}
+}
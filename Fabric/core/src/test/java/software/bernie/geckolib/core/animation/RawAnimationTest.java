@@ -0,0 +1,47 @@
+package software.bernie.geckolib.core.animation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RawAnimationTest {
+	@Test
+	public void internsEqualAnimations() {
+		RawAnimation first = RawAnimation.begin().thenPlay("walk").thenLoop("idle");
+		RawAnimation second = RawAnimation.begin().thenPlay("walk").thenLoop("idle");
+
+		assertNotSame(first, second);
+		assertSame(first.intern(), second.intern());
+		assertSame(first.intern(), first.intern().intern());
+	}
+
+	@Test
+	public void keepsBackingStageList() {
+		RawAnimation animation = RawAnimation.begin().thenPlay("walk");
+		int hash = animation.hashCode();
+
+		animation.getAnimationStages().add(new RawAnimation.Stage("idle", Animation.LoopType.LOOP));
+
+		assertEquals(2, animation.getAnimationStages().size(), "The stage list should still be modifiable");
+		assertNotEquals(hash, animation.hashCode(), "The hash code should follow modifications to the stage list");
+		assertEquals(RawAnimation.begin().thenPlay("walk").thenLoop("idle"), animation);
+	}
+
+	@Test
+	public void protectsInternedStages() {
+		RawAnimation interned = RawAnimation.begin().thenPlay("attack").intern();
+
+		assertThrows(UnsupportedOperationException.class, () -> interned.getAnimationStages().clear());
+		assertThrows(IllegalStateException.class, () -> interned.thenPlay("idle"));
+	}
+
+	@Test
+	public void comparesWaitLengths() {
+		assertNotEquals(RawAnimation.begin().thenWait(5), RawAnimation.begin().thenWait(10));
+		assertEquals(RawAnimation.begin().thenWait(5), RawAnimation.begin().thenWait(5));
+	}
+}
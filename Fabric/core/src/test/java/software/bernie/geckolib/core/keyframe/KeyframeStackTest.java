@@ -0,0 +1,94 @@
+package software.bernie.geckolib.core.keyframe;
+
+import com.eliotlash.mclib.math.Constant;
+import com.eliotlash.mclib.math.IValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class KeyframeStackTest {
+	private static final double[] LENGTHS = {5, 2.5, 10, 0.5, 4};
+
+	private static List<Keyframe<IValue>> buildKeyframes() {
+		List<Keyframe<IValue>> keyframes = new ArrayList<>();
+
+		for (double length : LENGTHS) {
+			keyframes.add(new Keyframe<>(length, new Constant(0), new Constant(1)));
+		}
+
+		return keyframes;
+	}
+
+	/**
+	 * Find the keyframe for a tick by summing keyframe lengths, as keyframes were looked up before start times were baked
+	 */
+	private static int findKeyframeIndexLinear(double tick) {
+		double time = 0;
+
+		for (int i = 0; i < LENGTHS.length; i++) {
+			time += LENGTHS[i];
+
+			if (time > tick)
+				return i;
+		}
+
+		return LENGTHS.length;
+	}
+
+	@Test
+	public void computesCumulativeStartTimes() {
+		assertArrayEquals(new double[] {0, 5, 7.5, 17.5, 18, 22}, KeyframeStack.computeStartTimes(buildKeyframes()));
+		assertArrayEquals(new double[] {0}, KeyframeStack.computeStartTimes(List.of()));
+	}
+
+	@Test
+	public void findsKeyframeRegardlessOfHint() {
+		double[] startTimes = KeyframeStack.computeStartTimes(buildKeyframes());
+
+		for (double tick = -1; tick <= 25; tick += 0.25) {
+			int expected = findKeyframeIndexLinear(tick);
+
+			for (int hint = -1; hint <= LENGTHS.length + 1; hint++) {
+				assertEquals(expected, KeyframeStack.findKeyframeIndex(startTimes, tick, hint), "Wrong keyframe for tick " + tick + " with hint " + hint);
+			}
+		}
+	}
+
+	@Test
+	public void advancesCursorDuringPlayback() {
+		double[] startTimes = KeyframeStack.computeStartTimes(buildKeyframes());
+		int cursor = 0;
+
+		for (double tick = 0; tick <= 25; tick += 0.3) {
+			cursor = KeyframeStack.findKeyframeIndex(startTimes, tick, cursor);
+
+			assertEquals(findKeyframeIndexLinear(tick), cursor, "Wrong keyframe for tick " + tick);
+		}
+
+		assertEquals(LENGTHS.length, cursor, "Cursor should end past the final keyframe");
+	}
+
+	@Test
+	public void rewindsCursorWhenLooping() {
+		double[] startTimes = KeyframeStack.computeStartTimes(buildKeyframes());
+		int cursor = KeyframeStack.findKeyframeIndex(startTimes, 21, 0);
+
+		assertEquals(4, cursor);
+		assertEquals(0, KeyframeStack.findKeyframeIndex(startTimes, 1, cursor), "Cursor should find the first keyframe again after looping");
+	}
+
+	@Test
+	public void findsBoundaryKeyframes() {
+		double[] startTimes = KeyframeStack.computeStartTimes(buildKeyframes());
+
+		assertEquals(0, KeyframeStack.findKeyframeIndex(startTimes, 0, 0));
+		assertEquals(1, KeyframeStack.findKeyframeIndex(startTimes, 5, 0), "A keyframe should be active from its exact start time");
+		assertEquals(4, KeyframeStack.findKeyframeIndex(startTimes, 21.99, 2));
+		assertEquals(5, KeyframeStack.findKeyframeIndex(startTimes, 22, 4), "The end time of the final keyframe should be past the end");
+		assertEquals(0, KeyframeStack.findKeyframeIndex(new double[] {0}, 3, 0), "An empty stack should always be past the end");
+	}
+}
@@ -0,0 +1,61 @@
+package software.bernie.geckolib.core.molang;
+
+import software.bernie.geckolib.core.molang.expressions.MolangValue;
+
+/**
+ * Measurement harness comparing interpreted and {@link MolangCompiler compiled} evaluation of typical animation expressions.<br>
+ * Run {@link #main} with the test classpath, configured via system properties:
+ * <ul>
+ *     <li>{@code warmup} (2000000): The number of evaluations of each backend to warm up for</li>
+ *     <li>{@code iterations} (10000000): The number of evaluations of each backend to measure</li>
+ * </ul>
+ * The results are printed as nanoseconds per evaluation for each backend, along with a checksum of the evaluated values
+ */
+public final class MolangCompilerBenchmark {
+	private static final String[] EXPRESSIONS = {
+			"math.sin(query.anim_time * 180) * 12",
+			"math.cos(query.anim_time * 360 + 45) * 4 - math.sin(query.anim_time * 90) * 2.5",
+			"query.anim_time > 1 ? math.sin(query.anim_time * 720) * (query.ground_speed + 1) : -query.anim_time * 3",
+			"temp.wave = math.sin(query.anim_time * 270); return temp.wave * temp.wave * 8 + 1"
+	};
+
+	public static void main(String[] args) throws MolangException {
+		int warmupIterations = Integer.getInteger("warmup", 2_000_000);
+		int measuredIterations = Integer.getInteger("iterations", 10_000_000);
+		double[] time = new double[1];
+
+		MolangParser.INSTANCE.setValue(MolangQueries.ANIM_TIME, () -> time[0]);
+		MolangParser.INSTANCE.setValue(MolangQueries.GROUND_SPEED, () -> 0.3);
+
+		for (String expression : EXPRESSIONS) {
+			MolangValue interpreted = MolangParser.parseExpression(expression);
+			MolangValue compiled = MolangCompiler.compile(interpreted);
+
+			run(interpreted, time, warmupIterations);
+			run(compiled, time, warmupIterations);
+
+			double[] interpretedResult = run(interpreted, time, measuredIterations);
+			double[] compiledResult = run(compiled, time, measuredIterations);
+
+			System.out.println(expression);
+			System.out.printf("  interpreted: %.2f ns/eval, compiled: %.2f ns/eval (%.2fx), checksums %s / %s%n",
+					interpretedResult[0] / measuredIterations, compiledResult[0] / measuredIterations, interpretedResult[0] / compiledResult[0], interpretedResult[1], compiledResult[1]);
+		}
+	}
+
+	/**
+	 * Evaluate the given expression the given number of times, advancing the animation time between each evaluation
+	 * @return The elapsed nanoseconds and the sum of the evaluated values
+	 */
+	private static double[] run(MolangValue value, double[] time, int iterations) {
+		double sum = 0;
+		long start = System.nanoTime();
+
+		for (int i = 0; i < iterations; i++) {
+			time[0] = i * 0.05;
+			sum += value.get();
+		}
+
+		return new double[] {System.nanoTime() - start, sum};
+	}
+}
@@ -0,0 +1,115 @@
+package software.bernie.geckolib.core.state;
+
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.animatable.model.CoreGeoBone;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestBakedModel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PoseBufferTest {
+	private static final double STEP_LENGTH = 5;
+
+	private final TestBakedModel model = new TestBakedModel(2);
+	private final CoreGeoBone[] bones = this.model.getBones().toArray(new CoreGeoBone[0]);
+
+	private void pose(float rotX) {
+		for (CoreGeoBone bone : this.bones) {
+			bone.setRotX(rotX);
+			bone.setPosY(rotX * 2);
+			bone.setScaleZ(1 + rotX);
+		}
+	}
+
+	@Test
+	public void needsStepUntilBuffered() {
+		PoseBuffer buffer = new PoseBuffer();
+
+		assertFalse(buffer.hasPose(this.model, 2));
+		assertTrue(buffer.needsStep(0, this.model, 2));
+
+		buffer.push(this.bones, 2, this.model, 0, STEP_LENGTH);
+
+		assertTrue(buffer.hasPose(this.model, 2));
+		assertFalse(buffer.needsStep(0, this.model, 2), "The buffered step shouldn't need evaluating again");
+		assertTrue(buffer.needsStep(5, this.model, 2), "The next step should need evaluating");
+		assertTrue(buffer.needsStep(0, new TestBakedModel(2), 2), "A different model should need evaluating");
+		assertTrue(buffer.needsStep(0, this.model, 3), "A different bone count should need evaluating");
+		assertEquals(0, buffer.getStepTime());
+	}
+
+	@Test
+	public void interpolatesBetweenConsecutiveSteps() {
+		PoseBuffer buffer = new PoseBuffer();
+
+		pose(0);
+		buffer.push(this.bones, 2, this.model, 0, STEP_LENGTH);
+		pose(10);
+		buffer.push(this.bones, 2, this.model, 5, STEP_LENGTH);
+
+		pose(-100);
+		buffer.apply(this.bones, 2, 0.25f);
+
+		for (CoreGeoBone bone : this.bones) {
+			assertEquals(2.5f, bone.getRotX(), 1e-5f);
+			assertEquals(5f, bone.getPosY(), 1e-5f);
+			assertEquals(3.5f, bone.getScaleZ(), 1e-5f);
+		}
+
+		buffer.apply(this.bones, 2, 2);
+		assertEquals(10, this.bones[0].getRotX(), 1e-5f, "Progress should be clamped to the current pose");
+
+		buffer.apply(this.bones, 2, -1);
+		assertEquals(0, this.bones[0].getRotX(), 1e-5f, "Progress should be clamped to the previous pose");
+	}
+
+	@Test
+	public void restartsAfterSkippedSteps() {
+		PoseBuffer buffer = new PoseBuffer();
+
+		pose(0);
+		buffer.push(this.bones, 2, this.model, 0, STEP_LENGTH);
+		pose(10);
+		buffer.push(this.bones, 2, this.model, 20, STEP_LENGTH);
+
+		pose(-100);
+		buffer.apply(this.bones, 2, 0);
+		assertEquals(10, this.bones[0].getRotX(), 1e-5f, "A step that doesn't follow the previous one shouldn't interpolate from it");
+
+		pose(20);
+		buffer.push(this.bones, 2, this.model, 15, STEP_LENGTH);
+		pose(-100);
+		buffer.apply(this.bones, 2, 0);
+		assertEquals(20, this.bones[0].getRotX(), 1e-5f, "A step backwards in time shouldn't interpolate from the previous one");
+	}
+
+	@Test
+	public void ignoresMismatchedBones() {
+		PoseBuffer buffer = new PoseBuffer();
+
+		pose(1);
+		buffer.push(this.bones, 2, this.model, 0, STEP_LENGTH);
+		pose(7);
+		buffer.apply(this.bones, 1, 1);
+
+		assertEquals(7, this.bones[0].getRotX(), "A pose buffered for a different bone count shouldn't be applied");
+	}
+
+	@Test
+	public void skipsFramesToMeetUpdateInterval() {
+		PoseBuffer buffer = new PoseBuffer();
+		int evaluated = 0;
+
+		for (int frame = 0; frame < 16; frame++) {
+			if (!buffer.skipFrame(4))
+				evaluated++;
+		}
+
+		assertEquals(4, evaluated, "An update interval of 4 should evaluate every 4th frame");
+
+		for (int frame = 0; frame < 5; frame++) {
+			assertFalse(buffer.skipFrame(1), "An update interval of 1 should never skip frames");
+		}
+	}
+}
@@ -14,6 +14,7 @@ import net.minecraft.util.profiling.ProfilerFiller;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import software.bernie.geckolib.cache.GeckoLibCache;
+import software.bernie.geckolib.core.animation.AnimationDiagnostics;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -40,6 +41,7 @@ public class GeckoLib {
 									applyProfiler, prepareExecutor, applyExecutor);
 						}
 					});
+			AnimationDiagnostics.setReporter(LOGGER::warn);
 		}
 		hasInitialized = true;
 	}
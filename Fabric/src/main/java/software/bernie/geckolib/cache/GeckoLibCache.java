@@ -22,6 +22,9 @@ import software.bernie.geckolib.GeckoLib;
 import software.bernie.geckolib.GeckoLibException;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.core.animatable.model.CoreGeoModel;
+import software.bernie.geckolib.core.animation.AnimationBinding;
+import software.bernie.geckolib.core.animation.AnimationStageCache;
+import software.bernie.geckolib.core.animation.SharedPoseCache;
 import software.bernie.geckolib.loading.FileLoader;
 import software.bernie.geckolib.loading.json.FormatVersion;
 import software.bernie.geckolib.loading.json.raw.Model;
@@ -78,6 +81,9 @@ public final class GeckoLibCache {
 				.thenCompose(stage::wait).thenAcceptAsync(empty -> {
 					GeckoLibCache.ANIMATIONS = animations;
 					GeckoLibCache.MODELS = models;
+					AnimationBinding.clearCache();
+					SharedPoseCache.clearCache();
+					AnimationStageCache.clearCache();
 				}, gameExecutor);
 	}
 
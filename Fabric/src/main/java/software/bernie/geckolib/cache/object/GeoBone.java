@@ -19,6 +19,7 @@ import java.util.Objects;
 public class GeoBone implements CoreGeoBone {
 	private final GeoBone parent;
 	private final String name;
+	private int index = -1;
 
 	private final List<GeoBone> children = new ObjectArrayList<>();
 	private final List<GeoCube> cubes = new ObjectArrayList<>();
@@ -80,6 +81,16 @@ public class GeoBone implements CoreGeoBone {
 		return this.name;
 	}
 
+	@Override
+	public int getIndex() {
+		return this.index;
+	}
+
+	@Override
+	public void setIndex(int index) {
+		this.index = index;
+	}
+
 	@Override
 	public GeoBone getParent() {
 		return this.parent;
@@ -13,14 +13,18 @@ import software.bernie.geckolib.core.animation.Animation;
 import software.bernie.geckolib.core.animation.EasingType;
 import software.bernie.geckolib.core.keyframe.BoneAnimation;
 import software.bernie.geckolib.core.keyframe.Keyframe;
+import software.bernie.geckolib.core.keyframe.KeyframeSamples;
 import software.bernie.geckolib.core.keyframe.KeyframeStack;
+import software.bernie.geckolib.core.molang.MolangDependencies;
 import software.bernie.geckolib.core.molang.MolangException;
 import software.bernie.geckolib.core.molang.MolangParser;
 import software.bernie.geckolib.core.molang.expressions.MolangValue;
 import software.bernie.geckolib.loading.object.BakedAnimations;
 import software.bernie.geckolib.util.JsonUtil;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Type;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +33,66 @@ import java.util.Map;
  * Acts as the deserialization interface for {@code BakedAnimations}
  */
 public class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations> {
+	private static volatile float defaultSampleRate = 0;
+
+	/**
+	 * Set the default rate (in samples per second) at which constant-only keyframe channels are pre-sampled when animations are loaded.<br>
+	 * Sampled channels use more memory, but skip keyframe evaluation entirely during playback. A rate of 0 (the default) disables sampling.<br>
+	 * Individual animation files can override this with a top-level {@code "geckolib_sample_rate"} value.<br>
+	 * Changes take effect on the next resource reload
+	 * @param samplesPerSecond The number of samples to take per second of animation, or 0 to disable sampling
+	 */
+	public static void setDefaultSampleRate(float samplesPerSecond) {
+		defaultSampleRate = Math.max(0, samplesPerSecond);
+	}
+
+	/**
+	 * Get the default rate (in samples per second) at which constant-only keyframe channels are pre-sampled
+	 * @see BakedAnimationsAdapter#setDefaultSampleRate
+	 */
+	public static float getDefaultSampleRate() {
+		return defaultSampleRate;
+	}
+
+	/**
+	 * Pre-sample every {@link KeyframeStack} in the given animations that consists solely of constant keyframes.<br>
+	 * Stacks that use Molang are left as-is
+	 * @param animations The baked animations to sample
+	 * @param samplesPerSecond The number of samples to take per second of animation
+	 * @return A new {@code BakedAnimations} instance with sampled stacks, or the provided instance if {@code samplesPerSecond} is 0 or less
+	 */
+	public static BakedAnimations sampleConstantChannels(BakedAnimations animations, float samplesPerSecond) {
+		if (samplesPerSecond <= 0)
+			return animations;
+
+		double ticksPerSample = 20d / samplesPerSecond;
+		Map<String, Animation> sampledAnimations = new Object2ObjectOpenHashMap<>(animations.animations().size());
+
+		for (Map.Entry<String, Animation> entry : animations.animations().entrySet()) {
+			Animation animation = entry.getValue();
+			BoneAnimation[] boneAnimations = new BoneAnimation[animation.boneAnimations().length];
+
+			for (int i = 0; i < boneAnimations.length; i++) {
+				BoneAnimation boneAnimation = animation.boneAnimations()[i];
+
+				boneAnimations[i] = new BoneAnimation(boneAnimation.boneName(),
+						sampleStack(boneAnimation.rotationKeyFrames(), ticksPerSample),
+						sampleStack(boneAnimation.positionKeyFrames(), ticksPerSample),
+						sampleStack(boneAnimation.scaleKeyFrames(), ticksPerSample));
+			}
+
+			sampledAnimations.put(entry.getKey(), new Animation(animation.name(), animation.length(), animation.loopType(), boneAnimations, animation.keyFrames()));
+		}
+
+		return new BakedAnimations(sampledAnimations, animations.molangVariableSlots());
+	}
+
+	private static KeyframeStack<Keyframe<IValue>> sampleStack(KeyframeStack<Keyframe<IValue>> stack, double ticksPerSample) {
+		KeyframeSamples samples = KeyframeSamples.bake(stack, ticksPerSample);
+
+		return samples == null ? stack : stack.withSamples(samples);
+	}
+
 	@Override
 	public BakedAnimations deserialize(JsonElement json, Type type, JsonDeserializationContext context) throws JsonParseException {
 		JsonObject obj = json.getAsJsonObject();
@@ -44,7 +108,38 @@ public class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations>
 			}
 		}
 
-		return new BakedAnimations(animations);
+		return new BakedAnimations(animations, collectMolangVariableSlots(animations));
+	}
+
+	/**
+	 * Collect the {@link MolangParser#getSlot slots} of every Molang variable and query referenced by the keyframes of the given animations
+	 * @return The referenced variable slots, or null if any of the keyframe values couldn't be analysed
+	 */
+	@Nullable
+	private static BitSet collectMolangVariableSlots(Map<String, Animation> animations) {
+		BitSet slots = new BitSet();
+
+		for (Animation animation : animations.values()) {
+			for (BoneAnimation boneAnimation : animation.boneAnimations()) {
+				if (!collectMolangVariableSlots(boneAnimation.rotationKeyFrames(), slots) ||
+						!collectMolangVariableSlots(boneAnimation.positionKeyFrames(), slots) ||
+						!collectMolangVariableSlots(boneAnimation.scaleKeyFrames(), slots))
+					return null;
+			}
+		}
+
+		return slots;
+	}
+
+	private static boolean collectMolangVariableSlots(KeyframeStack<Keyframe<IValue>> stack, BitSet slots) {
+		for (List<Keyframe<IValue>> keyframes : List.of(stack.xKeyframes(), stack.yKeyframes(), stack.zKeyframes())) {
+			for (Keyframe<IValue> keyframe : keyframes) {
+				if (!MolangDependencies.collectVariableSlots(keyframe.startValue(), slots) || !MolangDependencies.collectVariableSlots(keyframe.endValue(), slots))
+					return false;
+			}
+		}
+
+		return true;
 	}
 
 	private Animation bakeAnimation(String name, JsonObject animationObj, JsonDeserializationContext context) throws MolangException {
@@ -170,7 +265,9 @@ public class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations>
 			prevEntry = entry;
 		}
 
-		return new KeyframeStack<>(xFrames, yFrames, zFrames);
+		double[] startTimes = KeyframeStack.computeStartTimes(xFrames);
+
+		return new KeyframeStack<>(xFrames, yFrames, zFrames, startTimes, startTimes, startTimes);
 	}
 
 	private static double calculateAnimationLength(BoneAnimation[] boneAnimations) {
@@ -1,15 +1,24 @@
 package software.bernie.geckolib.loading.object;
 
 import software.bernie.geckolib.core.animation.Animation;
+import software.bernie.geckolib.core.molang.MolangParser;
 
 import javax.annotation.Nullable;
+import java.util.BitSet;
 import java.util.Map;
 
 /**
  * Container object that holds a deserialized map of {@link Animation Animations}.<br>
- * Kept as a unique object so that it can be registered as a {@link com.google.gson.JsonDeserializer deserializer} for {@link com.google.gson.Gson Gson}
+ * Kept as a unique object so that it can be registered as a {@link com.google.gson.JsonDeserializer deserializer} for {@link com.google.gson.Gson Gson}<br>
+ * Also records the Molang variables and queries referenced by its animations, so that unreferenced queries don't need to be computed at render time
+ * @param animations The deserialized animations, mapped by name
+ * @param molangVariableSlots The {@link MolangParser#getSlot slots} of every Molang variable and query referenced by the animations, or null if unknown
  */
-public record BakedAnimations(Map<String, Animation> animations) {
+public record BakedAnimations(Map<String, Animation> animations, @Nullable BitSet molangVariableSlots) {
+	public BakedAnimations(Map<String, Animation> animations) {
+		this(animations, null);
+	}
+
 	/**
 	 * Gets an {@link Animation} by its name, if present
 	 */
@@ -17,4 +26,20 @@ public record BakedAnimations(Map<String, Animation> animations) {
 	public Animation getAnimation(String name){
 		return animations.get(name);
 	}
+
+	/**
+	 * Whether any of these animations reference the Molang variable or query registered to the given {@link MolangParser#getSlot slot}.<br>
+	 * Always true if the referenced variables are unknown
+	 */
+	public boolean referencesMolangVariable(int slot) {
+		return this.molangVariableSlots == null || this.molangVariableSlots.get(slot);
+	}
+
+	/**
+	 * Whether any of these animations reference any Molang variables or queries.<br>
+	 * Always true if the referenced variables are unknown
+	 */
+	public boolean referencesMolangVariables() {
+		return this.molangVariableSlots == null || !this.molangVariableSlots.isEmpty();
+	}
 }
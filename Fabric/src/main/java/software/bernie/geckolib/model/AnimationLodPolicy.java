@@ -0,0 +1,58 @@
+package software.bernie.geckolib.model;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.phys.Vec3;
+import software.bernie.geckolib.core.animatable.GeoAnimatable;
+import software.bernie.geckolib.core.animation.AnimationLod;
+
+/**
+ * A policy for selecting the {@link AnimationLod level of detail} to animate an animatable at for the current render frame.<br>
+ * The policy used by default for all {@link GeoModel GeoModels} can be set via {@link GeoModel#setDefaultLodPolicy}, or overridden per-model via {@link GeoModel#getAnimationLod}
+ */
+@FunctionalInterface
+public interface AnimationLodPolicy {
+	/**
+	 * Always animates at full detail
+	 */
+	AnimationLodPolicy FULL_DETAIL = animatable -> AnimationLod.FULL;
+	/**
+	 * Reduces the level of detail as entities and block entities take up less of the screen, using GeckoLib's built-in thresholds
+	 * @see AnimationLodPolicy#screenSize
+	 */
+	AnimationLodPolicy SCREEN_SIZE = screenSize(0.1f, 0.05f, 0.025f);
+
+	/**
+	 * Get the level of detail to animate the given animatable at for the current render frame
+	 */
+	AnimationLod getLod(GeoAnimatable animatable);
+
+	/**
+	 * Create a policy that reduces the level of detail based on the approximate on-screen size of the animatable.<br>
+	 * The on-screen size is measured as the animatable's largest bounding box dimension divided by its distance from the camera,
+	 * so it accounts for both camera distance and the size of the animatable.<br>
+	 * Animatables that aren't entities or block entities are always animated at full detail
+	 * @param halfRateSize The on-screen size below which animations are evaluated every 2nd frame
+	 * @param quarterRateSize The on-screen size below which animations are evaluated every 4th frame, and low priority controllers are skipped
+	 * @param eighthRateSize The on-screen size below which animations are evaluated every 8th frame, and low priority controllers are skipped
+	 */
+	static AnimationLodPolicy screenSize(float halfRateSize, float quarterRateSize, float eighthRateSize) {
+		return animatable -> AnimationLod.forScreenSize(getScreenSize(animatable), halfRateSize, quarterRateSize, eighthRateSize);
+	}
+
+	/**
+	 * Get the approximate on-screen size of the given animatable, or {@link Double#MAX_VALUE} if it can't be determined
+	 */
+	static double getScreenSize(GeoAnimatable animatable) {
+		Vec3 cameraPos = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition();
+
+		if (animatable instanceof Entity entity)
+			return Math.max(entity.getBbWidth(), entity.getBbHeight()) / Math.max(1, cameraPos.distanceTo(entity.position()));
+
+		if (animatable instanceof BlockEntity blockEntity)
+			return 1 / Math.max(1, cameraPos.distanceTo(blockEntity.getBlockPos().getCenter()));
+
+		return Double.MAX_VALUE;
+	}
+}
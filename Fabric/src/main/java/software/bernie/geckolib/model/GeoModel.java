@@ -15,18 +15,23 @@ import software.bernie.geckolib.constant.DataTickets;
 import software.bernie.geckolib.core.animatable.GeoAnimatable;
 import software.bernie.geckolib.core.animatable.model.CoreGeoModel;
 import software.bernie.geckolib.core.animation.AnimatableManager;
+import software.bernie.geckolib.core.animation.AnimationLod;
 import software.bernie.geckolib.core.animation.Animation;
 import software.bernie.geckolib.core.animation.AnimationState;
 import software.bernie.geckolib.core.animation.AnimationProcessor;
 import software.bernie.geckolib.core.molang.MolangParser;
 import software.bernie.geckolib.core.molang.MolangQueries;
+import software.bernie.geckolib.core.molang.MolangScope;
 import software.bernie.geckolib.core.object.DataTicket;
 import software.bernie.geckolib.loading.object.BakedAnimations;
 import software.bernie.geckolib.renderer.GeoRenderer;
 import software.bernie.geckolib.util.RenderUtils;
 
+import javax.annotation.Nullable;
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Base class for all code-based model objects.<br>
@@ -34,11 +39,16 @@ import java.util.function.BiConsumer;
  * @see <a href="https://github.com/bernie-g/geckolib/wiki/Models">GeckoLib Wiki - Models</a>
  */
 public abstract class GeoModel<T extends GeoAnimatable> implements CoreGeoModel<T> {
+	private static volatile AnimationLodPolicy defaultLodPolicy = AnimationLodPolicy.FULL_DETAIL;
+
 	private final AnimationProcessor<T> processor = new AnimationProcessor<>(this);
 
 	private BakedGeoModel currentModel = null;
 	private double animTime;
 	private double lastGameTickTime;
+	private AnimationState<T> animationState = null;
+	private boolean animationStateInUse = false;
+	private final boolean usesDefaultAnimationLookup = usesDefaultAnimationLookup(getClass());
 
 	/**
 	 * Returns the resource path for the {@link BakedGeoModel} (model json file) to render based on the provided animatable
@@ -63,6 +73,38 @@ public abstract class GeoModel<T extends GeoAnimatable> implements CoreGeoModel<
 		return false;
 	}
 
+	/**
+	 * Override this to evaluate this model's animations at a fixed rate (in evaluations per second) for the given animatable, instead of every render frame.<br>
+	 * Render frames between evaluations interpolate between the last two evaluated poses, so the rendered pose trails the animation by up to one evaluation.<br>
+	 * Returns 0 by default, which evaluates animations every render frame
+	 */
+	public double getAnimationEvaluationRate(T animatable) {
+		return 0;
+	}
+
+	/**
+	 * Gets the {@link AnimationLod level of detail} to animate the given animatable at for the current render frame.<br>
+	 * Uses the {@link GeoModel#setDefaultLodPolicy default policy} unless overridden
+	 */
+	public AnimationLod getAnimationLod(T animatable) {
+		return defaultLodPolicy.getLod(animatable);
+	}
+
+	/**
+	 * Set the {@link AnimationLodPolicy} used by all models that don't override {@link GeoModel#getAnimationLod}.<br>
+	 * Defaults to {@link AnimationLodPolicy#FULL_DETAIL}
+	 */
+	public static void setDefaultLodPolicy(AnimationLodPolicy policy) {
+		defaultLodPolicy = policy;
+	}
+
+	/**
+	 * Get the {@link AnimationLodPolicy} used by all models that don't override {@link GeoModel#getAnimationLod}
+	 */
+	public static AnimationLodPolicy getDefaultLodPolicy() {
+		return defaultLodPolicy;
+	}
+
 	/**
 	 * Gets the default render type for this animatable, to be selected by default by the renderer using it
 	 */
@@ -115,6 +157,27 @@ public abstract class GeoModel<T extends GeoAnimatable> implements CoreGeoModel<
 		return bakedAnimations.getAnimation(name);
 	}
 
+	/**
+	 * Compiled animations are cached against the animation resource path, which is the only input to the default {@link GeoModel#getAnimation} lookup.<br>
+	 * If this model overrides {@code getAnimation}, its animations may come from anywhere, so caching is disabled unless this method is also overridden
+	 */
+	@Override
+	public Object getAnimationCacheKey(T animatable) {
+		return this.usesDefaultAnimationLookup ? getAnimationResource(animatable) : null;
+	}
+
+	/**
+	 * Whether the given model class uses GeoModel's own {@link GeoModel#getAnimation} implementation, rather than overriding it
+	 */
+	private static boolean usesDefaultAnimationLookup(Class<?> modelClass) {
+		try {
+			return modelClass.getMethod("getAnimation", GeoAnimatable.class, String.class).getDeclaringClass() == GeoModel.class;
+		}
+		catch (NoSuchMethodException ex) {
+			return false;
+		}
+	}
+
 	@Override
 	public AnimationProcessor<T> getAnimationProcessor() {
 		return this.processor;
@@ -128,13 +191,32 @@ public abstract class GeoModel<T extends GeoAnimatable> implements CoreGeoModel<
 	 */
 	public void addAdditionalStateData(T animatable, long instanceId, BiConsumer<DataTicket<T>, T> dataConsumer) {}
 
+	/**
+	 * Get this model's re-usable {@link AnimationState}, reset for the given animatable.<br>
+	 * Renderers use this rather than allocating a new {@code AnimationState} for each animatable every render frame.<br>
+	 * The state is scoped to a single render call: it is released for re-use when it is passed to {@link GeoModel#handleAnimations}, so neither the caller
+	 * nor any animation handler or {@link GeoModel#setCustomAnimations} override may hold a reference to it after that call returns.
+	 * If the re-usable state is still in use, such as when rendering another animatable with this model from inside an animation handler, a new state is returned instead
+	 */
+	public AnimationState<T> obtainAnimationState(T animatable, float limbSwing, float limbSwingAmount, float partialTick, boolean isMoving) {
+		if (this.animationStateInUse)
+			return new AnimationState<>(animatable, limbSwing, limbSwingAmount, partialTick, isMoving);
+
+		this.animationStateInUse = true;
+
+		if (this.animationState == null)
+			return this.animationState = new AnimationState<>(animatable, limbSwing, limbSwingAmount, partialTick, isMoving);
+
+		return this.animationState.reset(animatable, limbSwing, limbSwingAmount, partialTick, isMoving);
+	}
+
 	@Override
 	public final void handleAnimations(T animatable, long instanceId, AnimationState<T> animationState) {
 		Minecraft mc = Minecraft.getInstance();
 		AnimatableManager<T> animatableManager = animatable.getAnimatableInstanceCache().getManagerForId(instanceId);
-		Double currentTick = animationState.getData(DataTickets.TICK);
+		double currentTick = animationState.getDouble(DataTickets.TICK, Double.NaN);
 
-		if (currentTick == null)
+		if (Double.isNaN(currentTick))
 			currentTick = animatable instanceof Entity entity ? (double)entity.tickCount : RenderUtils.getCurrentTick();
 
 		if (animatableManager.getFirstTickTime() == -1)
@@ -142,8 +224,11 @@ public abstract class GeoModel<T extends GeoAnimatable> implements CoreGeoModel<
 
 		double currentFrameTime = animatable instanceof Entity ? currentTick + mc.getFrameTime() : currentTick - animatableManager.getFirstTickTime();
 
-		if (!animatableManager.isFirstTick() && currentFrameTime == animatableManager.getLastUpdateTime())
+		if (!animatableManager.isFirstTick() && currentFrameTime == animatableManager.getLastUpdateTime()) {
+			releaseAnimationState(animationState);
+
 			return;
+		}
 
 		if ((!mc.isPaused() || animatable.shouldPlayAnimsWhileGamePaused())) {
 			animatableManager.updatedAt(currentFrameTime);
@@ -155,42 +240,117 @@ public abstract class GeoModel<T extends GeoAnimatable> implements CoreGeoModel<
 
 		animationState.animationTick = this.animTime;
 		AnimationProcessor<T> processor = getAnimationProcessor();
+		MolangScope previousScope = MolangScope.setCurrent(animatableManager.getMolangScope());
 
-		processor.preAnimationSetup(animationState.getAnimatable(), this.animTime);
+		try {
+			processor.preAnimationSetup(animationState.getAnimatable(), this.animTime);
 
-		if (!processor.getRegisteredBones().isEmpty())
-			processor.tickAnimation(animatable, this, animatableManager, this.animTime, animationState, crashIfBoneMissing());
+			if (processor.getBoneCount() > 0) {
+				double evaluationRate = getAnimationEvaluationRate(animatable);
+
+				processor.tickAnimation(animatable, this, animatableManager, this.animTime, animationState, crashIfBoneMissing(), evaluationRate > 0 ? 20 / evaluationRate : 0, getAnimationLod(animatable));
+			}
+
+			setCustomAnimations(animatable, instanceId, animationState);
+		}
+		finally {
+			MolangScope.setCurrent(previousScope);
+			releaseAnimationState(animationState);
+		}
+	}
 
-		setCustomAnimations(animatable, instanceId, animationState);
+	/**
+	 * Release this model's re-usable {@link AnimationState} for the next {@link GeoModel#obtainAnimationState} call, if it is the given state
+	 */
+	private void releaseAnimationState(AnimationState<T> animationState) {
+		if (animationState == this.animationState)
+			this.animationStateInUse = false;
 	}
 
+	/**
+	 * Binds the builtin queries referenced by the animatable's {@link BakedAnimations} to the animatable's {@link MolangScope}.<br>
+	 * Queries that the animations never reference aren't bound, and binding is skipped entirely if the animations don't reference any
+	 */
 	@Override
 	public void applyMolangQueries(T animatable, double animTime) {
-		MolangParser parser = MolangParser.INSTANCE;
-		Minecraft mc = Minecraft.getInstance();
+		BakedAnimations animations = GeckoLibCache.getBakedAnimations().get(getAnimationResource(animatable));
+
+		if (animations != null && !animations.referencesMolangVariables())
+			return;
 
-		parser.setMemoizedValue(MolangQueries.LIFE_TIME, () -> animTime / 20d);
-		parser.setMemoizedValue(MolangQueries.ACTOR_COUNT, mc.level::getEntityCount);
-		parser.setMemoizedValue(MolangQueries.TIME_OF_DAY, () -> mc.level.getDayTime() / 24000f);
-		parser.setMemoizedValue(MolangQueries.MOON_PHASE, mc.level::getMoonPhase);
+		bindQuery(animations, MolangQueries.Slots.LIFE_TIME, BuiltinQueries.LIFE_TIME);
+		bindQuery(animations, MolangQueries.Slots.ACTOR_COUNT, BuiltinQueries.ACTOR_COUNT);
+		bindQuery(animations, MolangQueries.Slots.TIME_OF_DAY, BuiltinQueries.TIME_OF_DAY);
+		bindQuery(animations, MolangQueries.Slots.MOON_PHASE, BuiltinQueries.MOON_PHASE);
 
 		if (animatable instanceof Entity entity) {
-			parser.setMemoizedValue(MolangQueries.DISTANCE_FROM_CAMERA, () -> mc.gameRenderer.getMainCamera().getPosition().distanceTo(entity.position()));
-			parser.setMemoizedValue(MolangQueries.IS_ON_GROUND, () -> RenderUtils.booleanToFloat(entity.onGround()));
-			parser.setMemoizedValue(MolangQueries.IS_IN_WATER, () -> RenderUtils.booleanToFloat(entity.isInWater()));
-			parser.setMemoizedValue(MolangQueries.IS_IN_WATER_OR_RAIN, () -> RenderUtils.booleanToFloat(entity.isInWaterRainOrBubble()));
-
-			if (entity instanceof LivingEntity livingEntity) {
-				parser.setMemoizedValue(MolangQueries.HEALTH, livingEntity::getHealth);
-				parser.setMemoizedValue(MolangQueries.MAX_HEALTH, livingEntity::getMaxHealth);
-				parser.setMemoizedValue(MolangQueries.IS_ON_FIRE, () -> RenderUtils.booleanToFloat(livingEntity.isOnFire()));
-				parser.setMemoizedValue(MolangQueries.GROUND_SPEED, () -> {
-					Vec3 velocity = livingEntity.getDeltaMovement();
-
-					return Mth.sqrt((float) ((velocity.x * velocity.x) + (velocity.z * velocity.z)));
-				});
-				parser.setMemoizedValue(MolangQueries.YAW_SPEED, () -> livingEntity.getViewYRot((float)animTime - livingEntity.getViewYRot((float)animTime - 0.1f)));
+			bindQuery(animations, MolangQueries.Slots.DISTANCE_FROM_CAMERA, BuiltinQueries.DISTANCE_FROM_CAMERA);
+			bindQuery(animations, MolangQueries.Slots.IS_ON_GROUND, BuiltinQueries.IS_ON_GROUND);
+			bindQuery(animations, MolangQueries.Slots.IS_IN_WATER, BuiltinQueries.IS_IN_WATER);
+			bindQuery(animations, MolangQueries.Slots.IS_IN_WATER_OR_RAIN, BuiltinQueries.IS_IN_WATER_OR_RAIN);
+
+			if (entity instanceof LivingEntity) {
+				bindQuery(animations, MolangQueries.Slots.HEALTH, BuiltinQueries.HEALTH);
+				bindQuery(animations, MolangQueries.Slots.MAX_HEALTH, BuiltinQueries.MAX_HEALTH);
+				bindQuery(animations, MolangQueries.Slots.IS_ON_FIRE, BuiltinQueries.IS_ON_FIRE);
+				bindQuery(animations, MolangQueries.Slots.GROUND_SPEED, BuiltinQueries.GROUND_SPEED);
+				bindQuery(animations, MolangQueries.Slots.YAW_SPEED, BuiltinQueries.YAW_SPEED);
 			}
 		}
 	}
+
+	/**
+	 * Bind a memoized query supplier to the given {@link MolangParser#getSlot slot}, if the animations reference it or their references are unknown
+	 */
+	private static void bindQuery(@Nullable BakedAnimations animations, int slot, DoubleSupplier supplier) {
+		if (animations == null || animations.referencesMolangVariable(slot))
+			MolangParser.INSTANCE.setMemoizedValue(slot, supplier);
+	}
+
+	/**
+	 * Pre-allocated suppliers for the builtin queries, reading the animatable from the {@link MolangScope#current() current scope}.<br>
+	 * This allows the builtin queries to be re-bound for each animatable without allocating new suppliers every frame.<br>
+	 * If a query is evaluated without a current scope, there is no animatable or animation time to read, so the animatable-dependent queries return 0
+	 */
+	private static final class BuiltinQueries {
+		private static final DoubleSupplier LIFE_TIME = () -> animTime() / 20d;
+		private static final DoubleSupplier ACTOR_COUNT = () -> Minecraft.getInstance().level.getEntityCount();
+		private static final DoubleSupplier TIME_OF_DAY = () -> Minecraft.getInstance().level.getDayTime() / 24000f;
+		private static final DoubleSupplier MOON_PHASE = () -> Minecraft.getInstance().level.getMoonPhase();
+		private static final DoubleSupplier DISTANCE_FROM_CAMERA = () -> entityQuery(entity -> Minecraft.getInstance().gameRenderer.getMainCamera().getPosition().distanceTo(entity.position()));
+		private static final DoubleSupplier IS_ON_GROUND = () -> entityQuery(entity -> RenderUtils.booleanToFloat(entity.onGround()));
+		private static final DoubleSupplier IS_IN_WATER = () -> entityQuery(entity -> RenderUtils.booleanToFloat(entity.isInWater()));
+		private static final DoubleSupplier IS_IN_WATER_OR_RAIN = () -> entityQuery(entity -> RenderUtils.booleanToFloat(entity.isInWaterRainOrBubble()));
+		private static final DoubleSupplier HEALTH = () -> livingEntityQuery(LivingEntity::getHealth);
+		private static final DoubleSupplier MAX_HEALTH = () -> livingEntityQuery(LivingEntity::getMaxHealth);
+		private static final DoubleSupplier IS_ON_FIRE = () -> livingEntityQuery(livingEntity -> RenderUtils.booleanToFloat(livingEntity.isOnFire()));
+		private static final DoubleSupplier GROUND_SPEED = () -> livingEntityQuery(livingEntity -> {
+			Vec3 velocity = livingEntity.getDeltaMovement();
+
+			return Mth.sqrt((float) ((velocity.x * velocity.x) + (velocity.z * velocity.z)));
+		});
+		private static final DoubleSupplier YAW_SPEED = () -> livingEntityQuery(livingEntity -> {
+			float animTime = (float)animTime();
+
+			return livingEntity.getViewYRot(animTime - livingEntity.getViewYRot(animTime - 0.1f));
+		});
+
+		private static double animTime() {
+			MolangScope scope = MolangScope.current();
+
+			return scope != null ? scope.getAnimTime() : 0;
+		}
+
+		private static double entityQuery(ToDoubleFunction<Entity> query) {
+			MolangScope scope = MolangScope.current();
+
+			return scope != null && scope.getAnimatable() instanceof Entity entity ? query.applyAsDouble(entity) : 0;
+		}
+
+		private static double livingEntityQuery(ToDoubleFunction<LivingEntity> query) {
+			MolangScope scope = MolangScope.current();
+
+			return scope != null && scope.getAnimatable() instanceof LivingEntity livingEntity ? query.applyAsDouble(livingEntity) : 0;
+		}
+	}
 }
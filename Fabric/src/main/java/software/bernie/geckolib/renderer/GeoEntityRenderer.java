@@ -207,10 +207,10 @@ public class GeoEntityRenderer<T extends Entity & GeoAnimatable> extends EntityR
 			float motionThreshold = getMotionAnimThreshold(animatable);
 			Vec3 velocity = animatable.getDeltaMovement();
 			float avgVelocity = (float)(Math.abs(velocity.x) + Math.abs(velocity.z) / 2f);
-			AnimationState<T> animationState = new AnimationState<T>(animatable, limbSwing, limbSwingAmount, partialTick, avgVelocity >= motionThreshold && limbSwingAmount != 0);
+			AnimationState<T> animationState = this.model.obtainAnimationState(animatable, limbSwing, limbSwingAmount, partialTick, avgVelocity >= motionThreshold && limbSwingAmount != 0);
 			long instanceId = getInstanceId(animatable);
 
-			animationState.setData(DataTickets.TICK, animatable.getTick(animatable));
+			animationState.setDouble(DataTickets.TICK, animatable.getTick(animatable));
 			animationState.setData(DataTickets.ENTITY, animatable);
 			animationState.setData(DataTickets.ENTITY_MODEL_DATA, new EntityModelData(shouldSit, livingEntity != null && livingEntity.isBaby(), -netHeadYaw, -headPitch));
 			this.model.addAdditionalStateData(animatable, instanceId, animationState::setData);
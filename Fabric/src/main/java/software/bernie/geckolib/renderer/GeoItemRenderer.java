@@ -220,10 +220,10 @@ public class GeoItemRenderer<T extends Item & GeoAnimatable> extends BlockEntity
 		poseStack.pushPose();
 
 		if (!isReRender) {
-			AnimationState<T> animationState = new AnimationState<>(animatable, 0, 0, partialTick, false);
+			AnimationState<T> animationState = this.model.obtainAnimationState(animatable, 0, 0, partialTick, false);
 			long instanceId = getInstanceId(animatable);
 
-			animationState.setData(DataTickets.TICK, animatable.getTick(this.currentItemStack));
+			animationState.setDouble(DataTickets.TICK, animatable.getTick(this.currentItemStack));
 			animationState.setData(DataTickets.ITEM_RENDER_PERSPECTIVE, this.renderPerspective);
 			animationState.setData(DataTickets.ITEMSTACK, this.currentItemStack);
 			animatable.getAnimatableInstanceCache().getManagerForId(instanceId).setData(DataTickets.ITEM_RENDER_PERSPECTIVE, this.renderPerspective);
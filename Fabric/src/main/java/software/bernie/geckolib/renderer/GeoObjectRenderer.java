@@ -149,7 +149,7 @@ public class GeoObjectRenderer<T extends GeoAnimatable> implements GeoRenderer<T
 		poseStack.pushPose();
 
 		if (!isReRender) {
-			AnimationState<T> animationState = new AnimationState<>(animatable, 0, 0, partialTick, false);
+			AnimationState<T> animationState = this.model.obtainAnimationState(animatable, 0, 0, partialTick, false);
 			long instanceId = getInstanceId(animatable);
 
 			this.model.addAdditionalStateData(animatable, instanceId, animationState::setData);
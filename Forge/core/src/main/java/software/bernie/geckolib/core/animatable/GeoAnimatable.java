@@ -56,6 +56,16 @@ public interface GeoAnimatable {
 		return false;
 	}
 
+	/**
+	 * Defines the interval (in ticks) that this animatable's animation times are quantised to when sharing evaluated poses with other instances.<br>
+	 * When greater than 0, instances playing the same fully pre-sampled animations at the same quantised time copy a single
+	 * {@link software.bernie.geckolib.core.animation.SharedPoseCache cached pose} rather than each evaluating it.<br>
+	 * This is intended for large crowds of identical animatables, and is disabled by default.
+	 */
+	default double getSharedPoseInterval() {
+		return 0;
+	}
+
 	/**
 	 * Returns the current age/tick of the animatable instance.<br>
 	 * By default this is just the animatable's age in ticks, but this method allows for non-ticking custom animatables to provide their own values
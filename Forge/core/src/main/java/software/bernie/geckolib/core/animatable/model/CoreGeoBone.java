@@ -11,6 +11,23 @@ import java.util.List;
 public interface CoreGeoBone {
 	String getName();
 
+	/**
+	 * Gets the dense index of this bone within its {@link CoreBakedGeoModel}.<br>
+	 * This is assigned by the {@link software.bernie.geckolib.core.animation.AnimationProcessor AnimationProcessor} when the bone is registered,
+	 * and is used for array-based bone storage during animation.<br>
+	 * Implementations must store the index given to {@link CoreGeoBone#setIndex} and return it here to be animated
+	 * @return The index of the bone, or -1 if it hasn't been assigned yet
+	 */
+	default int getIndex() {
+		return -1;
+	}
+
+	/**
+	 * Sets the dense index of this bone within its {@link CoreBakedGeoModel}.<br>
+	 * This is handled automatically by the {@link software.bernie.geckolib.core.animation.AnimationProcessor AnimationProcessor}, and shouldn't be called otherwise
+	 */
+	default void setIndex(int index) {}
+
 	CoreGeoBone getParent();
 
 	float getRotX();
@@ -42,6 +42,17 @@ public interface CoreGeoModel<E extends GeoAnimatable> {
 	 */
 	Animation getAnimation(E animatable, String name);
 
+	/**
+	 * Gets the key identifying the source of the {@link Animation Animations} returned by {@link CoreGeoModel#getAnimation} for the given animatable.<br>
+	 * Compiled {@link software.bernie.geckolib.core.animation.RawAnimation RawAnimations} are cached against this key, so it must uniquely identify the set of animations available to the animatable.<br>
+	 * Return null to disable caching, such as when {@code getAnimation} resolves animations dynamically
+	 * @param animatable The {@code GeoAnimatable} instance being referred to
+	 * @return The cache key for the animatable's animations, or null if they shouldn't be cached
+	 */
+	default Object getAnimationCacheKey(E animatable) {
+		return null;
+	}
+
 	/**
 	 * This method is called once per render frame for each {@link GeoAnimatable} being rendered.<br>
 	 * It is an internal method for automated animation parsing. Use {@link CoreGeoModel#setCustomAnimations(GeoAnimatable, long, AnimationState)} for custom animation work
@@ -0,0 +1,162 @@
+package software.bernie.geckolib.core.animation;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Rate-limited reporting of animation configuration issues encountered while animating, such as missing animations or keyframe handlers.<br>
+ * Issues are deduplicated by animatable class, source (controller or animation name), and {@link Issue type}.
+ * Each unique issue is reported at most once per {@link AnimationDiagnostics#REPORT_INTERVAL_NANOS report interval},
+ * with the number of occurrences suppressed since the last report included in the next one.<br>
+ * Every occurrence is counted regardless of reporting, and the counts can be queried at runtime.<br>
+ * Issues are stored by type, then animatable class, then source, so that recording a repeat occurrence doesn't allocate
+ */
+public final class AnimationDiagnostics {
+	public static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+	private static final System.Logger DEFAULT_LOGGER = System.getLogger("GeckoLib");
+	private static final Map<Issue, Map<Class<?>, Map<String, Entry>>> ENTRIES = new EnumMap<>(Issue.class);
+	private static volatile Consumer<String> reporter = message -> DEFAULT_LOGGER.log(System.Logger.Level.WARNING, message);
+
+	static {
+		for (Issue issue : Issue.values()) {
+			ENTRIES.put(issue, new ConcurrentHashMap<>());
+		}
+	}
+
+	/**
+	 * Set the output that diagnostic messages are reported to.<br>
+	 * Defaults to a {@link System.Logger} named {@code GeckoLib}, and is replaced with the GeckoLib logger when GeckoLib initialises
+	 */
+	public static void setReporter(Consumer<String> reporter) {
+		AnimationDiagnostics.reporter = reporter;
+	}
+
+	/**
+	 * Record an occurrence of the given issue, reporting it if it hasn't been reported within the last report interval
+	 * @param issue The type of issue encountered
+	 * @param animatableClass The class of the animatable the issue was encountered for
+	 * @param source The name of the controller or animation the issue was encountered in
+	 */
+	public static void report(Issue issue, Class<?> animatableClass, String source) {
+		Entry entry = getOrCreateEntry(issue, animatableClass, source);
+		long count = entry.count.incrementAndGet();
+		long now = System.nanoTime();
+
+		if (entry.isRateLimited(now))
+			return;
+
+		synchronized (entry) {
+			if (entry.isRateLimited(now))
+				return;
+
+			long suppressed = count - entry.reportedCount - 1;
+			entry.lastReportNanos = now;
+			entry.reportedCount = count;
+
+			String message = String.format(issue.message, animatableClass.getSimpleName(), source);
+
+			reporter.accept(suppressed > 0 ? message + " (" + suppressed + " repeats suppressed)" : message);
+		}
+	}
+
+	/**
+	 * Get the number of times the given issue has been encountered for the given animatable class and source
+	 */
+	public static long getCount(Issue issue, Class<?> animatableClass, String source) {
+		Map<String, Entry> sourceEntries = ENTRIES.get(issue).get(animatableClass);
+		Entry entry = sourceEntries == null ? null : sourceEntries.get(source);
+
+		return entry == null ? 0 : entry.count.get();
+	}
+
+	/**
+	 * Get the total number of times the given issue has been encountered, across all animatables and sources
+	 */
+	public static long getTotalCount(Issue issue) {
+		long total = 0;
+
+		for (Map<String, Entry> sourceEntries : ENTRIES.get(issue).values()) {
+			for (Entry entry : sourceEntries.values()) {
+				total += entry.count.get();
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * Get a snapshot of the number of times each unique issue has been encountered
+	 */
+	public static Map<Key, Long> getCounts() {
+		Map<Key, Long> counts = new ConcurrentHashMap<>();
+
+		ENTRIES.forEach((issue, classEntries) -> classEntries.forEach((animatableClass, sourceEntries) -> sourceEntries.forEach((source, entry) ->
+				counts.put(new Key(issue, animatableClass, source), entry.count.get()))));
+
+		return Collections.unmodifiableMap(counts);
+	}
+
+	/**
+	 * Clear all recorded issues and their counts
+	 */
+	public static void reset() {
+		for (Map<Class<?>, Map<String, Entry>> classEntries : ENTRIES.values()) {
+			classEntries.clear();
+		}
+	}
+
+	private static Entry getOrCreateEntry(Issue issue, Class<?> animatableClass, String source) {
+		Map<Class<?>, Map<String, Entry>> classEntries = ENTRIES.get(issue);
+		Map<String, Entry> sourceEntries = classEntries.get(animatableClass);
+
+		if (sourceEntries == null)
+			sourceEntries = classEntries.computeIfAbsent(animatableClass, key -> new ConcurrentHashMap<>());
+
+		Entry entry = sourceEntries.get(source);
+
+		if (entry == null)
+			entry = sourceEntries.computeIfAbsent(source, key -> new Entry());
+
+		return entry;
+	}
+
+	/**
+	 * The types of issues that can be reported
+	 */
+	public enum Issue {
+		MISSING_ANIMATION("Unable to find animation: %2$s for %1$s"),
+		MISSING_SOUND_KEYFRAME_HANDLER("Sound Keyframe found for %s -> %s, but no keyframe handler registered"),
+		MISSING_PARTICLE_KEYFRAME_HANDLER("Particle Keyframe found for %s -> %s, but no keyframe handler registered"),
+		MISSING_CUSTOM_KEYFRAME_HANDLER("Custom Instruction Keyframe found for %s -> %s, but no keyframe handler registered");
+
+		private final String message;
+
+		Issue(String message) {
+			this.message = message;
+		}
+	}
+
+	/**
+	 * The unique identity of a reported issue
+	 * @param issue The type of issue
+	 * @param animatableClass The class of the animatable the issue was encountered for
+	 * @param source The name of the controller or animation the issue was encountered in
+	 */
+	public record Key(Issue issue, Class<?> animatableClass, String source) {}
+
+	private static final class Entry {
+		private final AtomicLong count = new AtomicLong();
+		private volatile long lastReportNanos = 0;
+		private volatile long reportedCount = 0;
+
+		private boolean isRateLimited(long now) {
+			return this.reportedCount > 0 && now - this.lastReportNanos < REPORT_INTERVAL_NANOS;
+		}
+	}
+}
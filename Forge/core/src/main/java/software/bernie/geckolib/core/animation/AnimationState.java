@@ -1,8 +1,8 @@
 package software.bernie.geckolib.core.animation;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import software.bernie.geckolib.core.animatable.GeoAnimatable;
 import software.bernie.geckolib.core.object.DataTicket;
+import software.bernie.geckolib.core.object.DataTicketStore;
 import software.bernie.geckolib.core.object.PlayState;
 
 import java.util.Map;
@@ -14,12 +14,12 @@ import java.util.Objects;
  * stop the controller, or any number of other animation-related actions.
  */
 public class AnimationState<T extends GeoAnimatable> {
-	private final T animatable;
-	private final float limbSwing;
-	private final float limbSwingAmount;
-	private final float partialTick;
-	private final boolean isMoving;
-	private final Map<DataTicket<?>, Object> extraData = new Object2ObjectOpenHashMap<>();
+	private T animatable;
+	private float limbSwing;
+	private float limbSwingAmount;
+	private float partialTick;
+	private boolean isMoving;
+	private final DataTicketStore extraData = new DataTicketStore();
 
 	protected AnimationController<T> controller;
 	public double animationTick;
@@ -32,6 +32,25 @@ public class AnimationState<T extends GeoAnimatable> {
 		this.isMoving = isMoving;
 	}
 
+	/**
+	 * Re-initialise this state for a new render frame, clearing any data and controller from its previous use.<br>
+	 * This allows a renderer to re-use a single state rather than allocating a new one for each animatable each frame
+	 * @return this
+	 */
+	public AnimationState<T> reset(T animatable, float limbSwing, float limbSwingAmount, float partialTick, boolean isMoving) {
+		this.animatable = animatable;
+		this.limbSwing = limbSwing;
+		this.limbSwingAmount = limbSwingAmount;
+		this.partialTick = partialTick;
+		this.isMoving = isMoving;
+		this.controller = null;
+		this.animationTick = 0;
+
+		this.extraData.clear();
+
+		return this;
+	}
+
 	/**
 	 * Gets the amount of ticks that have passed in either the current transition or
 	 * animation, depending on the controller's AnimationState.
@@ -88,10 +107,13 @@ public class AnimationState<T extends GeoAnimatable> {
 
 	/**
 	 * Gets the optional additional data map for the state.<br>
+	 * The returned map is a live view of this state's data, which boxes any double values as they are read
 	 * @see DataTicket
+	 * @deprecated Use {@link AnimationState#getData} or {@link AnimationState#getDouble} instead
 	 */
+	@Deprecated
 	public Map<DataTicket<?>, ?> getExtraData() {
-		return this.extraData;
+		return this.extraData.asMap();
 	}
 
 	/**
@@ -101,7 +123,17 @@ public class AnimationState<T extends GeoAnimatable> {
 	 * @return The cached data for the given {@code DataTicket}, or null if not saved
 	 */
 	public <D> D getData(DataTicket<D> dataTicket) {
-		return dataTicket.getData(this.extraData);
+		return this.extraData.getData(dataTicket);
+	}
+
+	/**
+	 * Get a double value saved to this animation state by the ticket for that value, without boxing
+	 * @param dataTicket The {@link DataTicket} for the value to retrieve
+	 * @param defaultValue The value to return if no value has been saved
+	 * @return The cached value for the given {@code DataTicket}, or the default value if not saved
+	 */
+	public double getDouble(DataTicket<Double> dataTicket, double defaultValue) {
+		return this.extraData.getDouble(dataTicket, defaultValue);
 	}
 
 	/**
@@ -110,7 +142,16 @@ public class AnimationState<T extends GeoAnimatable> {
 	 * @param data The data value
 	 */
 	public <D> void setData(DataTicket<D> dataTicket, D data) {
-		this.extraData.put(dataTicket, data);
+		this.extraData.setData(dataTicket, data);
+	}
+
+	/**
+	 * Save a double value for the given {@link DataTicket} in the additional data map, without boxing
+	 * @param dataTicket The {@code DataTicket} for the value
+	 * @param value The value
+	 */
+	public void setDouble(DataTicket<Double> dataTicket, double value) {
+		this.extraData.setDouble(dataTicket, value);
 	}
 
 	/**
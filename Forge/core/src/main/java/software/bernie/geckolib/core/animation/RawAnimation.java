@@ -7,8 +7,12 @@ package software.bernie.geckolib.core.animation;
 
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 
+import java.lang.ref.WeakReference;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 
 /**
  * A builder class for a raw/unbaked animation. These are constructed to pass to the
@@ -16,12 +20,20 @@ import java.util.Objects;
  * <br><br>
  * Animations added to this builder are added <u>in order of insertion</u> - the animations will play in the order that you define them.<br>
  * RawAnimation instances should be cached statically where possible to reduce overheads and improve efficiency.
+ * Dynamically built instances can be collapsed to a single shared instance with {@link RawAnimation#intern()}.
  * <br><br>
  * Example usage: <br>
  * <pre>{@code RawAnimation.begin().thenPlay("action.open_box").thenLoop("state.stay_open")}</pre>
  */
 public final class RawAnimation {
+	// Weakly held, so that interned instances are released once nothing else references them
+	private static final Map<RawAnimation, WeakReference<RawAnimation>> INTERNED = new WeakHashMap<>();
+
 	private final List<Stage> animationList = new ObjectArrayList<>();
+	private final List<Stage> immutableStages = Collections.unmodifiableList(this.animationList);
+	// Cached hash code, with 0 meaning not yet calculated
+	private int hash = 0;
+	private boolean interned = false;
 
 	// Private constructor to force usage of factory for logical operations
 	private RawAnimation() {}
@@ -57,9 +69,7 @@ public final class RawAnimation {
 	 * @param ticks The number of ticks to 'wait' for
 	 */
 	public RawAnimation thenWait(int ticks) {
-		this.animationList.add(new Stage(Stage.WAIT, Animation.LoopType.PLAY_ONCE, ticks));
-
-		return this;
+		return addStage(new Stage(Stage.WAIT, Animation.LoopType.PLAY_ONCE, ticks));
 	}
 
 	/**
@@ -91,12 +101,62 @@ public final class RawAnimation {
 	 * @param loopType The loop type handler for the animation, overriding the default value set in the animation json
 	 */
 	public RawAnimation then(String animationName, Animation.LoopType loopType) {
-		this.animationList.add(new Stage(animationName, loopType));
+		return addStage(new Stage(animationName, loopType));
+	}
+
+	private RawAnimation addStage(Stage stage) {
+		if (this.interned)
+			throw new IllegalStateException("Unable to modify an interned RawAnimation");
+
+		this.animationList.add(stage);
+		this.hash = 0;
 
 		return this;
 	}
 
+	/**
+	 * Get the canonical instance of this RawAnimation, shared by all equal RawAnimations that have been interned.<br>
+	 * The returned instance can be compared by identity with other interned instances, and cannot be modified any further.<br>
+	 * Interned instances are only weakly held, and are released once nothing else references them
+	 * @return The interned RawAnimation instance
+	 */
+	public RawAnimation intern() {
+		if (this.interned)
+			return this;
+
+		synchronized (INTERNED) {
+			WeakReference<RawAnimation> reference = INTERNED.get(this);
+			RawAnimation canonical = reference != null ? reference.get() : null;
+
+			if (canonical == null) {
+				canonical = copyOf(this);
+				canonical.interned = true;
+
+				INTERNED.put(canonical, new WeakReference<>(canonical));
+			}
+
+			return canonical;
+		}
+	}
+
+	/**
+	 * Get the stages of this RawAnimation, in order of insertion.<br>
+	 * The returned list is this RawAnimation's backing list, unless it has been {@link RawAnimation#intern() interned}, in which case it can't be modified
+	 */
 	public List<Stage> getAnimationStages() {
+		if (this.interned)
+			return this.immutableStages;
+
+		// The caller may modify the list, so the cached hash code can't be trusted any more
+		this.hash = 0;
+
+		return this.animationList;
+	}
+
+	/**
+	 * Get the stages of this RawAnimation for internal use, without invalidating the cached hash code
+	 */
+	List<Stage> getStages() {
 		return this.animationList;
 	}
 
@@ -119,15 +179,20 @@ public final class RawAnimation {
 		if (this == obj)
 			return true;
 
-		if (obj == null || getClass() != obj.getClass())
+		if (!(obj instanceof RawAnimation other) || (this.interned && other.interned))
 			return false;
 
-		return hashCode() == obj.hashCode();
+		return hashCode() == other.hashCode() && this.animationList.equals(other.animationList);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.animationList);
+		int hash = this.hash;
+
+		if (hash == 0)
+			this.hash = hash = this.animationList.hashCode();
+
+		return hash;
 	}
 
 	/**
@@ -146,15 +211,15 @@ public final class RawAnimation {
 			if (this == obj)
 				return true;
 
-			if (obj == null || getClass() != obj.getClass())
+			if (!(obj instanceof Stage other))
 				return false;
 
-			return hashCode() == obj.hashCode();
+			return this.additionalTicks == other.additionalTicks && Objects.equals(this.loopType, other.loopType) && Objects.equals(this.animationName, other.animationName);
 		}
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(this.animationName, this.loopType);
+			return Objects.hash(this.animationName, this.loopType, this.additionalTicks);
 		}
 	}
 }
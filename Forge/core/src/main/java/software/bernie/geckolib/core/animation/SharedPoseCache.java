@@ -0,0 +1,166 @@
+package software.bernie.geckolib.core.animation;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import software.bernie.geckolib.core.animatable.model.CoreBakedGeoModel;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A cache of evaluated poses for animatables that opt in to {@link software.bernie.geckolib.core.animatable.GeoAnimatable#getSharedPoseInterval() pose sharing}.<br>
+ * Each {@link AnimationProcessor} owns its own cache, so poses are only ever shared between animatables using the same model.<br>
+ * Poses are keyed by the baked model, and the name, bone mask, animation, and quantised animation time of each of the animatable's active controllers,
+ * allowing crowds of animatables playing the same constant animations at the same phase to evaluate the pose once and copy it into their bones.<br>
+ * Poses are stored as packed rotation, position, and scale values for each bone, indexed by {@link software.bernie.geckolib.core.animatable.model.CoreGeoBone#getIndex() bone index}.
+ * Only the {@link SharedPoseCache#MAX_POSES most recently used} poses are kept
+ */
+public final class SharedPoseCache {
+	private static final int MAX_POSES = 256;
+	private static volatile int generation = 0;
+
+	private final Object2ObjectLinkedOpenHashMap<Key, float[]> poses = new Object2ObjectLinkedOpenHashMap<>();
+	private int cacheGeneration = generation;
+
+	/**
+	 * Get the cached pose for the given key, marking it as the most recently used
+	 * @return The packed pose, or null if none has been cached
+	 */
+	public synchronized float[] get(Key key) {
+		invalidateIfStale();
+
+		return this.poses.getAndMoveToLast(key);
+	}
+
+	/**
+	 * Cache the given pose, evicting the least recently used pose if the cache is full.<br>
+	 * The key is copied, so the provided instance can continue to be re-used
+	 * @param key The key for the pose
+	 * @param pose The packed pose
+	 */
+	public synchronized void put(Key key, float[] pose) {
+		invalidateIfStale();
+
+		if (this.poses.size() >= MAX_POSES)
+			this.poses.removeFirst();
+
+		this.poses.putAndMoveToLast(key.copy(), pose);
+	}
+
+	private void invalidateIfStale() {
+		if (this.cacheGeneration != generation) {
+			this.poses.clear();
+			this.cacheGeneration = generation;
+		}
+	}
+
+	/**
+	 * Clear all cached poses in every cache.<br>
+	 * Called when GeckoLib reloads its resources, as the baked models and animations are replaced at that point.
+	 * Each cache is cleared the next time it is used
+	 */
+	public static void clearCache() {
+		generation++;
+	}
+
+	/**
+	 * A re-usable key for a shared pose, built up from each of an animatable's active controllers in order
+	 */
+	public static final class Key {
+		private CoreBakedGeoModel model;
+		private double interval;
+		private String[] controllers = new String[2];
+		private Set<?>[] boneMasks = new Set<?>[2];
+		private Animation[] animations = new Animation[2];
+		private long[] phases = new long[2];
+		private int size = 0;
+		private int hash = 0;
+
+		/**
+		 * Reset this key for a new render frame
+		 * @param model The currently active model
+		 * @param interval The interval (in ticks) that animation times are quantised to
+		 * @return this
+		 */
+		public Key reset(CoreBakedGeoModel model, double interval) {
+			Arrays.fill(this.controllers, 0, this.size, null);
+			Arrays.fill(this.boneMasks, 0, this.size, null);
+			Arrays.fill(this.animations, 0, this.size, null);
+
+			this.model = model;
+			this.interval = interval;
+			this.size = 0;
+			this.hash = 31 * System.identityHashCode(model) + Double.hashCode(interval);
+
+			return this;
+		}
+
+		/**
+		 * Add a controller's animation and quantised animation time to this key
+		 * @param controller The name of the controller
+		 * @param boneMask The controller's explicit {@link AnimationController#getBoneMask bone mask}, or null if it doesn't have one
+		 * @param animation The animation deferred by the controller
+		 * @param phase The quantised animation time of the deferred animation
+		 */
+		public void add(String controller, Set<String> boneMask, Animation animation, long phase) {
+			if (this.size == this.animations.length) {
+				this.controllers = Arrays.copyOf(this.controllers, this.size * 2);
+				this.boneMasks = Arrays.copyOf(this.boneMasks, this.size * 2);
+				this.animations = Arrays.copyOf(this.animations, this.size * 2);
+				this.phases = Arrays.copyOf(this.phases, this.size * 2);
+			}
+
+			this.controllers[this.size] = controller;
+			this.boneMasks[this.size] = boneMask;
+			this.animations[this.size] = animation;
+			this.phases[this.size] = phase;
+			this.size++;
+			// Bone masks are left out of the hash so that it doesn't need to iterate them every frame, and are compared only on a hash match
+			this.hash = 31 * (31 * (31 * this.hash + controller.hashCode()) + System.identityHashCode(animation)) + Long.hashCode(phase);
+		}
+
+		/**
+		 * The number of controllers that have been added to this key
+		 */
+		public int size() {
+			return this.size;
+		}
+
+		private Key copy() {
+			Key copy = new Key();
+
+			copy.model = this.model;
+			copy.interval = this.interval;
+			copy.controllers = Arrays.copyOf(this.controllers, this.size);
+			copy.boneMasks = Arrays.copyOf(this.boneMasks, this.size);
+			copy.animations = Arrays.copyOf(this.animations, this.size);
+			copy.phases = Arrays.copyOf(this.phases, this.size);
+			copy.size = this.size;
+			copy.hash = this.hash;
+
+			return copy;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+
+			if (!(obj instanceof Key other) || this.hash != other.hash || this.size != other.size || this.model != other.model || this.interval != other.interval)
+				return false;
+
+			for (int i = 0; i < this.size; i++) {
+				if (this.animations[i] != other.animations[i] || this.phases[i] != other.phases[i] || !this.controllers[i].equals(other.controllers[i]) ||
+						!Objects.equals(this.boneMasks[i], other.boneMasks[i]))
+					return false;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+}
@@ -6,13 +6,65 @@
 package software.bernie.geckolib.core.keyframe;
 
 import java.io.Serial;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 
 /**
  * An {@link AnimationPoint} queue holds a queue of {@code AnimationPoints} which are used in
- * the {@link software.bernie.geckolib.core.animation.AnimationController} to lerp between values
+ * the {@link software.bernie.geckolib.core.animation.AnimationController} to lerp between values.<br>
+ * The queue is an array-backed {@link java.util.Deque}, so adding points doesn't allocate a node per point.<br>
+ * The queue also owns a pool of {@code AnimationPoints}, handed out by {@link AnimationPointQueue#obtain()} and re-used after each {@link AnimationPointQueue#clear()},
+ * so that steady-state animation doesn't need to allocate any new points.
+ * See {@link AnimationPoint} for the ownership rules of pooled points
  */
-public final class AnimationPointQueue extends LinkedList<AnimationPoint> {
+public final class AnimationPointQueue extends ArrayDeque<AnimationPoint> {
 	@Serial
 	private static final long serialVersionUID = 5472797438476621193L;
+
+	private transient AnimationPoint[] pool = new AnimationPoint[1];
+	private transient int poolIndex = 0;
+
+	/**
+	 * Get a pooled {@link AnimationPoint} to write new values into.<br>
+	 * The returned point is not added to the queue, and is only valid until this queue is next {@link AnimationPointQueue#clear() cleared}
+	 */
+	public AnimationPoint obtain() {
+		if (this.pool == null)
+			this.pool = new AnimationPoint[1];
+
+		if (this.poolIndex == this.pool.length)
+			this.pool = Arrays.copyOf(this.pool, this.pool.length * 2);
+
+		AnimationPoint point = this.pool[this.poolIndex];
+
+		if (point == null)
+			this.pool[this.poolIndex] = point = new AnimationPoint(null, 0, 0, 0, 0);
+
+		this.poolIndex++;
+
+		return point;
+	}
+
+	/**
+	 * Add a new point to the queue, using a pooled {@link AnimationPoint} instance
+	 * @param keyFrame The {@code Nullable} Keyframe relevant to the animation point
+	 * @param currentTick The lerped tick time (current tick + partial tick) of the point
+	 * @param transitionLength The length of time (in ticks) that the point should take to transition
+	 * @param startValue The value of the point at the start of its transition
+	 * @param endValue The value of the point at the end of its transition
+	 */
+	public void add(Keyframe<?> keyFrame, double currentTick, double transitionLength, double startValue, double endValue) {
+		offer(obtain().set(keyFrame, currentTick, transitionLength, startValue, endValue));
+	}
+
+	/**
+	 * Remove all points from the queue, and return all pooled points to the pool.<br>
+	 * Any points previously obtained from this queue will be overwritten when they're next obtained, and should not be used after this point
+	 */
+	@Override
+	public void clear() {
+		super.clear();
+
+		this.poolIndex = 0;
+	}
 }
@@ -0,0 +1,61 @@
+package software.bernie.geckolib.core.keyframe;
+
+import com.eliotlash.mclib.math.IValue;
+import it.unimi.dsi.fastutil.doubles.Double2DoubleFunction;
+import software.bernie.geckolib.core.animation.EasingType;
+
+import java.util.List;
+
+/**
+ * The easing transformer for a {@link Keyframe}, resolved from its {@link EasingType} and easing arguments.<br>
+ * The transformer is built once up-front if the easing argument is constant, and is otherwise only rebuilt when the evaluated argument changes.
+ * This means that evaluating a keyframe neither rebuilds the transformer nor boxes the easing argument each frame.<br>
+ * Exceptions thrown by an {@code EasingType} while building its transformer are not caught
+ */
+public final class CachedEasingTransformer implements Double2DoubleFunction {
+	private final EasingType easingType;
+	private final IValue easingArg;
+	private volatile Entry entry = null;
+
+	/**
+	 * @param easingType The {@code EasingType} of the keyframe
+	 * @param easingArgs The easing arguments of the keyframe
+	 */
+	public CachedEasingTransformer(EasingType easingType, List<? extends IValue> easingArgs) {
+		this.easingType = easingType;
+		this.easingArg = easingArgs.isEmpty() ? null : easingArgs.get(0);
+
+		if (this.easingArg == null || Keyframe.isConstant(this.easingArg))
+			forType(easingType);
+	}
+
+	@Override
+	public double get(double t) {
+		return forType(this.easingType).get(t);
+	}
+
+	/**
+	 * Get the transformer built by the given {@code EasingType} for the current value of this keyframe's easing argument.<br>
+	 * This is normally the keyframe's own {@code EasingType}, but may be a different one if the easing has been overridden
+	 * @param easingType The {@code EasingType} to build the transformer with
+	 */
+	public Double2DoubleFunction forType(EasingType easingType) {
+		Entry entry = this.entry;
+
+		if (this.easingArg == null) {
+			if (entry == null || entry.easingType != easingType)
+				this.entry = entry = new Entry(easingType, 0, easingType.buildTransformer(null));
+
+			return entry.transformer;
+		}
+
+		double easingValue = this.easingArg.get();
+
+		if (entry == null || entry.easingType != easingType || Double.compare(entry.easingValue, easingValue) != 0)
+			this.entry = entry = new Entry(easingType, easingValue, easingType.buildTransformer(easingValue));
+
+		return entry.transformer;
+	}
+
+	private record Entry(EasingType easingType, double easingValue, Double2DoubleFunction transformer) {}
+}
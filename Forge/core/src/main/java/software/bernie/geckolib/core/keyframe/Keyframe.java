@@ -5,9 +5,11 @@
 
 package software.bernie.geckolib.core.keyframe;
 
+import com.eliotlash.mclib.math.Constant;
 import com.eliotlash.mclib.math.IValue;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import software.bernie.geckolib.core.animation.EasingType;
+import software.bernie.geckolib.core.molang.expressions.MolangValue;
 
 import java.util.List;
 import java.util.Objects;
@@ -19,8 +21,14 @@ import java.util.Objects;
  * @param endValue The value to end the keyframe's transformation with
  * @param easingType The {@code EasingType} to use for transformations
  * @param easingArgs The arguments to provide to the easing calculation
+ * @param easingTransformer The easing transformer resolved from the {@code easingType} and {@code easingArgs}. Built from them if null
  */
-public record Keyframe<T extends IValue>(double length, T startValue, T endValue, EasingType easingType, List<T> easingArgs) {
+public record Keyframe<T extends IValue>(double length, T startValue, T endValue, EasingType easingType, List<T> easingArgs, CachedEasingTransformer easingTransformer) {
+	public Keyframe {
+		if (easingTransformer == null)
+			easingTransformer = new CachedEasingTransformer(easingType, easingArgs);
+	}
+
 	public Keyframe(double length, T startValue, T endValue) {
 		this(length, startValue, endValue, EasingType.LINEAR);
 	}
@@ -29,6 +37,17 @@ public record Keyframe<T extends IValue>(double length, T startValue, T endValue
 		this(length, startValue, endValue, easingType, new ObjectArrayList<>(0));
 	}
 
+	public Keyframe(double length, T startValue, T endValue, EasingType easingType, List<T> easingArgs) {
+		this(length, startValue, endValue, easingType, easingArgs, null);
+	}
+
+	/**
+	 * Whether the given value is a compile-time constant, and will always return the same value
+	 */
+	public static boolean isConstant(IValue value) {
+		return value instanceof Constant || (value instanceof MolangValue molangValue && molangValue.isConstant());
+	}
+
 	@Override
 	public int hashCode() {
 		return Objects.hash(this.length, this.startValue, this.endValue, this.easingType, this.easingArgs);
@@ -0,0 +1,87 @@
+package software.bernie.geckolib.core.keyframe;
+
+import com.eliotlash.mclib.math.IValue;
+import software.bernie.geckolib.core.animation.EasingType;
+
+import java.util.List;
+
+/**
+ * Pre-sampled values for a {@link KeyframeStack} whose keyframes are entirely constant.<br>
+ * The values for all three axes are packed into a single array, sampled at a fixed interval,
+ * allowing for playback to use a direct indexed lerp instead of evaluating the keyframes each frame.<br>
+ * Sampling trades memory for CPU time, and slightly smooths any keyframe changes shorter than the sample interval
+ * @param samples The packed sample values, in {@code x, y, z} order per sample
+ * @param ticksPerSample The interval (in ticks) between each sample
+ * @param sampleCount The number of samples per axis
+ */
+public record KeyframeSamples(float[] samples, double ticksPerSample, int sampleCount) {
+	/**
+	 * Get the sampled value for the given axis at the given tick
+	 * @param axis The axis index ({@code 0}, {@code 1}, or {@code 2} for {@code x}, {@code y}, or {@code z})
+	 * @param tick The animation tick to sample at
+	 * @return The lerped value between the two nearest samples
+	 */
+	public double sample(int axis, double tick) {
+		double position = tick / this.ticksPerSample;
+
+		if (position <= 0)
+			return this.samples[axis];
+
+		int index = (int)position;
+
+		if (index >= this.sampleCount - 1)
+			return this.samples[(this.sampleCount - 1) * 3 + axis];
+
+		float start = this.samples[index * 3 + axis];
+		float end = this.samples[(index + 1) * 3 + axis];
+
+		return start + (end - start) * (position - index);
+	}
+
+	/**
+	 * Sample the given {@link KeyframeStack} at the given interval, if all of its keyframes are constant
+	 * @param stack The keyframe stack to sample
+	 * @param ticksPerSample The interval (in ticks) between each sample
+	 * @return The sampled values, or null if the stack is empty or contains non-constant values
+	 */
+	public static KeyframeSamples bake(KeyframeStack<Keyframe<IValue>> stack, double ticksPerSample) {
+		if (ticksPerSample <= 0 || stack.xKeyframes().isEmpty() || !isConstant(stack.xKeyframes()) || !isConstant(stack.yKeyframes()) || !isConstant(stack.zKeyframes()))
+			return null;
+
+		double length = stack.getLastKeyframeTime();
+		int sampleCount = (int)Math.ceil(length / ticksPerSample) + 1;
+		float[] samples = new float[sampleCount * 3];
+
+		for (int i = 0; i < sampleCount; i++) {
+			double tick = i * ticksPerSample;
+
+			samples[i * 3] = (float)evaluate(stack.xKeyframes(), stack.xStartTimes(), tick);
+			samples[i * 3 + 1] = (float)evaluate(stack.yKeyframes(), stack.yStartTimes(), tick);
+			samples[i * 3 + 2] = (float)evaluate(stack.zKeyframes(), stack.zStartTimes(), tick);
+		}
+
+		return new KeyframeSamples(samples, ticksPerSample, sampleCount);
+	}
+
+	private static double evaluate(List<Keyframe<IValue>> keyframes, double[] startTimes, double tick) {
+		int index = KeyframeStack.findKeyframeIndex(startTimes, tick, 0);
+		Keyframe<IValue> keyframe = keyframes.get(Math.min(index, keyframes.size() - 1));
+		double frameTick = index < keyframes.size() ? tick - startTimes[index] : tick;
+
+		return EasingType.lerpWithOverride(new AnimationPoint(keyframe, frameTick, keyframe.length(), keyframe.startValue().get(), keyframe.endValue().get()), null);
+	}
+
+	private static boolean isConstant(List<Keyframe<IValue>> keyframes) {
+		for (Keyframe<IValue> keyframe : keyframes) {
+			if (!Keyframe.isConstant(keyframe.startValue()) || !Keyframe.isConstant(keyframe.endValue()))
+				return false;
+
+			for (IValue arg : keyframe.easingArgs()) {
+				if (!Keyframe.isConstant(arg))
+					return false;
+			}
+		}
+
+		return true;
+	}
+}
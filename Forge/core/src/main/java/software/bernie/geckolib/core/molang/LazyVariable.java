@@ -6,13 +6,21 @@ import java.util.function.DoubleSupplier;
 
 /**
  * Lazy override of Variable, to allow for deferred value calculation. <br>
- * Optimises rendering as values are not touched until needed (if at all)
+ * Optimises rendering as values are not touched until needed (if at all)<br>
+ * Variables with a {@link MolangParser#getSlot slot} are read from and written to the {@link MolangScope#current() current scope} if there is one,
+ * with the values held by the variable itself acting as the global defaults
  */
 public class LazyVariable extends Variable {
-	private DoubleSupplier valueSupplier;
+	private DoubleSupplier valueSupplier = null;
+	private double value;
+	private boolean memoized = false;
+	private long evaluatedEpoch = -1;
+	private int slot = -1;
 
 	public LazyVariable(String name, double value) {
-		this(name, () -> value);
+		super(name, 0);
+
+		this.value = value;
 	}
 
 	public LazyVariable(String name, DoubleSupplier valueSupplier) {
@@ -26,14 +34,50 @@ public class LazyVariable extends Variable {
 	 */
 	@Override
 	public void set(double value) {
-		this.valueSupplier = () -> value;
+		MolangScope scope = currentScope();
+
+		if (scope != null) {
+			scope.set(this.slot, value);
+
+			return;
+		}
+
+		this.valueSupplier = null;
+		this.value = value;
 	}
 
 	/**
 	 * Set the new value supplier for the variable
 	 */
 	public void set(DoubleSupplier valueSupplier) {
+		MolangScope scope = currentScope();
+
+		if (scope != null) {
+			scope.set(this.slot, valueSupplier);
+
+			return;
+		}
+
 		this.valueSupplier = valueSupplier;
+		this.memoized = false;
+	}
+
+	/**
+	 * Set a new value supplier for the variable, calculating its value at most once per {@link MolangScope#prepare frame},
+	 * or per {@link MolangParser#getEvaluationEpoch() evaluation epoch} if there is no current scope
+	 */
+	public void setMemoized(DoubleSupplier valueSupplier) {
+		MolangScope scope = currentScope();
+
+		if (scope != null) {
+			scope.setMemoized(this.slot, valueSupplier);
+
+			return;
+		}
+
+		this.valueSupplier = valueSupplier;
+		this.memoized = true;
+		this.evaluatedEpoch = -1;
 	}
 
 	/**
@@ -41,7 +85,47 @@ public class LazyVariable extends Variable {
 	 */
 	@Override
 	public double get() {
-		return this.valueSupplier.getAsDouble();
+		MolangScope scope = currentScope();
+
+		if (scope != null && scope.isBound(this.slot))
+			return scope.get(this.slot);
+
+		return getGlobal();
+	}
+
+	/**
+	 * Get the global value of the variable, ignoring any scope
+	 */
+	double getGlobal() {
+		if (this.valueSupplier == null)
+			return this.value;
+
+		if (!this.memoized)
+			return this.valueSupplier.getAsDouble();
+
+		long epoch = MolangParser.getEvaluationEpoch();
+
+		if (this.evaluatedEpoch != epoch) {
+			this.value = this.valueSupplier.getAsDouble();
+			this.evaluatedEpoch = epoch;
+		}
+
+		return this.value;
+	}
+
+	/**
+	 * Get the {@link MolangParser} slot index this variable is registered to, or -1 if it is not a registered variable
+	 */
+	public int getSlot() {
+		return this.slot;
+	}
+
+	void setSlot(int slot) {
+		this.slot = slot;
+	}
+
+	private MolangScope currentScope() {
+		return this.slot < 0 ? null : MolangScope.current();
 	}
 
 	/**
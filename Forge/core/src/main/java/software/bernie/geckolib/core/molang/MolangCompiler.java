@@ -0,0 +1,343 @@
+package software.bernie.geckolib.core.molang;
+
+import com.eliotlash.mclib.math.Constant;
+import com.eliotlash.mclib.math.Group;
+import com.eliotlash.mclib.math.IValue;
+import com.eliotlash.mclib.math.Negate;
+import com.eliotlash.mclib.math.Negative;
+import com.eliotlash.mclib.math.Operation;
+import com.eliotlash.mclib.math.Operator;
+import com.eliotlash.mclib.math.Ternary;
+import com.eliotlash.mclib.math.Variable;
+import com.eliotlash.mclib.math.functions.Function;
+import software.bernie.geckolib.core.molang.expressions.CompiledMolangValue;
+import software.bernie.geckolib.core.molang.expressions.MolangCompoundValue;
+import software.bernie.geckolib.core.molang.expressions.MolangValue;
+import software.bernie.geckolib.core.molang.expressions.MolangVariableHolder;
+import software.bernie.geckolib.core.molang.functions.CosDegrees;
+import software.bernie.geckolib.core.molang.functions.SinDegrees;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Optional compilation backend for parsed Molang expressions.<br>
+ * Compilation translates the parsed {@link IValue} tree into a single {@link MethodHandle} chain of type {@code ()double}:
+ * <ul>
+ *     <li>Constants become constant handles, and wrapper nodes such as {@link MolangValue} and {@link Group} are removed</li>
+ *     <li>{@link Operator Operators}, negations, and ternaries are combined from primitive handles, without boxing or dispatching through {@link IValue#get}</li>
+ *     <li>Builtin trigonometric functions are applied directly to their compiled argument, rather than through the {@link Function} argument array</li>
+ *     <li>Registered {@link LazyVariable LazyVariables} read their slot from the {@link MolangScope#current() current scope} directly, falling back to the variable's global value</li>
+ *     <li>Other {@link Variable Variables} and any other node that can't be translated are bound as leaf calls to their {@link IValue#get} method</li>
+ * </ul>
+ * The JVM specialises the combined chain for each compiled expression once it is hot, folding the bound nodes and constants into the generated code.<br>
+ * If compilation fails, the original expression is used.
+ * Compilation is disabled by default, and must be {@link MolangCompiler#setEnabled enabled} before GeckoLib loads its animations
+ */
+public final class MolangCompiler {
+	private static volatile boolean enabled = false;
+
+	private static final Field GROUP_VALUE = findField(Group.class, "value");
+	private static final Field FUNCTION_ARGS = findField(Function.class, "args");
+	private static final Field FUNCTION_NAME = findField(Function.class, "name");
+
+	private static final MethodType DOUBLE_SUPPLIER = MethodType.methodType(double.class);
+	private static final MethodType UNARY = MethodType.methodType(double.class, double.class);
+	private static final MethodType BINARY = MethodType.methodType(double.class, double.class, double.class);
+
+	private static final MethodHandle GET = findVirtual(IValue.class, "get", DOUBLE_SUPPLIER);
+	private static final MethodHandle CALCULATE = findVirtual(Operation.class, "calculate", BINARY);
+	private static final MethodHandle READ_SLOT = findStatic("readSlot", MethodType.methodType(double.class, LazyVariable.class, int.class));
+	private static final MethodHandle ASSIGN = findStatic("assign", MethodType.methodType(double.class, Variable.class, double.class));
+	private static final MethodHandle IS_TRUE = findStatic("isTrue", MethodType.methodType(boolean.class, double.class));
+	private static final MethodHandle NEGATE = findStatic("negate", UNARY);
+	private static final MethodHandle NOT = findStatic("not", UNARY);
+	private static final MethodHandle ADD = findStatic("add", BINARY);
+	private static final MethodHandle SUBTRACT = findStatic("subtract", BINARY);
+	private static final MethodHandle MULTIPLY = findStatic("multiply", BINARY);
+	private static final MethodHandle SIN_DEGREES = findStatic("sinDegrees", UNARY);
+	private static final MethodHandle COS_DEGREES = findStatic("cosDegrees", UNARY);
+
+	/**
+	 * Set whether parsed Molang expressions should be compiled when animations are loaded
+	 */
+	public static void setEnabled(boolean enabled) {
+		MolangCompiler.enabled = enabled;
+	}
+
+	/**
+	 * Whether parsed Molang expressions are compiled when animations are loaded
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Compile the given expression if {@link MolangCompiler#isEnabled() compilation is enabled}
+	 * @param value The parsed expression
+	 * @return The compiled expression, or the original expression if compilation is disabled or not applicable
+	 */
+	public static MolangValue compileIfEnabled(MolangValue value) {
+		return enabled ? compile(value) : value;
+	}
+
+	/**
+	 * Compile the given expression, falling back to the original expression if it can't be compiled
+	 * @param value The parsed expression
+	 * @return A {@link CompiledMolangValue} wrapping the compiled expression, or the original expression if it is constant or can't be compiled
+	 */
+	public static MolangValue compile(MolangValue value) {
+		if (value.isConstant() || value instanceof CompiledMolangValue || GET == null)
+			return value;
+
+		try {
+			return new CompiledMolangValue(value, new CompiledExpression(compileNode(value)));
+		}
+		catch (ReflectiveOperationException ex) {
+			return value;
+		}
+	}
+
+	private static MethodHandle compileNode(IValue value) throws ReflectiveOperationException {
+		if (value instanceof CompiledMolangValue compiledValue)
+			return compiledValue.getCompiled() instanceof CompiledExpression compiledExpression ? compiledExpression.handle() : leaf(compiledValue);
+
+		if (value instanceof MolangCompoundValue compoundValue)
+			return compileCompound(compoundValue);
+
+		if (value instanceof MolangVariableHolder variableHolder && variableHolder.variable != null)
+			return apply(ASSIGN.bindTo(variableHolder.variable), compileNode(variableHolder.getValueHolder()));
+
+		if (value instanceof MolangValue molangValue)
+			return compileNode(molangValue.getValueHolder());
+
+		if (value instanceof Constant constant)
+			return MethodHandles.constant(double.class, constant.get());
+
+		if (value instanceof Group group)
+			return compileNode(getGroupValue(group));
+
+		if (value instanceof Negative negative)
+			return apply(NEGATE, compileNode(negative.value));
+
+		if (value instanceof Negate negate)
+			return apply(NOT, compileNode(negate.value));
+
+		if (value instanceof Ternary ternary)
+			return MethodHandles.guardWithTest(MethodHandles.collectArguments(IS_TRUE, 0, compileNode(ternary.condition)), compileNode(ternary.ifTrue), compileNode(ternary.ifFalse));
+
+		if (value instanceof Operator operator)
+			return apply(getOperation(operator.operation), compileNode(operator.a), compileNode(operator.b));
+
+		if (value instanceof Function function)
+			return compileFunction(function);
+
+		if (value.getClass() == LazyVariable.class && ((LazyVariable)value).getSlot() >= 0)
+			return MethodHandles.insertArguments(READ_SLOT, 0, value, ((LazyVariable)value).getSlot());
+
+		return leaf(value);
+	}
+
+	private static MethodHandle compileCompound(MolangCompoundValue compoundValue) throws ReflectiveOperationException {
+		MethodHandle result = compileNode(compoundValue.values.get(compoundValue.values.size() - 1));
+
+		for (int i = compoundValue.values.size() - 2; i >= 0; i--) {
+			result = MethodHandles.foldArguments(result, compileNode(compoundValue.values.get(i)).asType(MethodType.methodType(void.class)));
+		}
+
+		return result;
+	}
+
+	private static MethodHandle compileFunction(Function function) throws ReflectiveOperationException {
+		IValue[] args = getFunctionArgs(function);
+
+		if (function instanceof SinDegrees && args.length == 1)
+			return apply(SIN_DEGREES, compileNode(args[0]));
+
+		if (function instanceof CosDegrees && args.length == 1)
+			return apply(COS_DEGREES, compileNode(args[0]));
+
+		for (int i = 0; i < args.length; i++) {
+			args[i] = new CompiledExpression(compileNode(args[i]));
+		}
+
+		return leaf(rebuildFunction(function, args));
+	}
+
+	private static MethodHandle getOperation(Operation operation) {
+		if (operation == Operation.ADD)
+			return ADD;
+
+		if (operation == Operation.SUB)
+			return SUBTRACT;
+
+		if (operation == Operation.MUL)
+			return MULTIPLY;
+
+		return CALCULATE.bindTo(operation);
+	}
+
+	/**
+	 * Bind the given node's {@link IValue#get} as a leaf of the compiled chain
+	 */
+	private static MethodHandle leaf(IValue value) {
+		return GET.bindTo(value);
+	}
+
+	/**
+	 * Apply a unary operation to the result of the given {@code ()double} handle
+	 */
+	private static MethodHandle apply(MethodHandle operation, MethodHandle value) {
+		return MethodHandles.collectArguments(operation, 0, value);
+	}
+
+	/**
+	 * Apply a binary operation to the results of the given {@code ()double} handles, evaluating {@code a} first
+	 */
+	private static MethodHandle apply(MethodHandle operation, MethodHandle a, MethodHandle b) {
+		return MethodHandles.collectArguments(MethodHandles.collectArguments(operation, 1, b), 0, a);
+	}
+
+	/**
+	 * Get the value wrapped by the given {@link Group}
+	 * @throws ReflectiveOperationException If the group's value isn't accessible
+	 */
+	static IValue getGroupValue(Group group) throws ReflectiveOperationException {
+		if (GROUP_VALUE == null)
+			throw new NoSuchFieldException("value");
+
+		return (IValue)GROUP_VALUE.get(group);
+	}
+
+	/**
+	 * Get a copy of the arguments of the given {@link Function}
+	 * @throws ReflectiveOperationException If the function's arguments aren't accessible
+	 */
+	static IValue[] getFunctionArgs(Function function) throws ReflectiveOperationException {
+		if (FUNCTION_ARGS == null)
+			throw new NoSuchFieldException("args");
+
+		return ((IValue[])FUNCTION_ARGS.get(function)).clone();
+	}
+
+	/**
+	 * Get the name the given {@link Function} was called by
+	 * @throws ReflectiveOperationException If the function's name isn't accessible
+	 */
+	static String getFunctionName(Function function) throws ReflectiveOperationException {
+		if (FUNCTION_NAME == null)
+			throw new NoSuchFieldException("name");
+
+		return (String)FUNCTION_NAME.get(function);
+	}
+
+	/**
+	 * Create a new instance of the given {@link Function Function's} type with the given arguments
+	 * @throws ReflectiveOperationException If the function can't be re-instantiated
+	 */
+	static Function rebuildFunction(Function function, IValue[] args) throws ReflectiveOperationException {
+		return function.getClass().getConstructor(IValue[].class, String.class).newInstance(args, getFunctionName(function));
+	}
+
+	private static Field findField(Class<?> owner, String name) {
+		try {
+			Field field = owner.getDeclaredField(name);
+
+			field.setAccessible(true);
+
+			return field;
+		}
+		catch (Exception ex) {
+			return null;
+		}
+	}
+
+	private static MethodHandle findVirtual(Class<?> owner, String name, MethodType type) {
+		try {
+			return MethodHandles.publicLookup().findVirtual(owner, name, type);
+		}
+		catch (ReflectiveOperationException ex) {
+			return null;
+		}
+	}
+
+	private static MethodHandle findStatic(String name, MethodType type) {
+		try {
+			return MethodHandles.lookup().findStatic(MolangCompiler.class, name, type);
+		}
+		catch (ReflectiveOperationException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Read the given slot from the current scope, equivalent to {@link LazyVariable#get} without re-checking the variable's slot.<br>
+	 * Subclasses of {@code LazyVariable} may override {@code get}, so only exact {@code LazyVariable} instances are compiled to this
+	 */
+	private static double readSlot(LazyVariable variable, int slot) {
+		MolangScope scope = MolangScope.current();
+
+		if (scope != null && scope.isBound(slot))
+			return scope.get(slot);
+
+		return variable.getGlobal();
+	}
+
+	private static double assign(Variable variable, double value) {
+		variable.set(value);
+
+		return value;
+	}
+
+	private static boolean isTrue(double value) {
+		return value != 0;
+	}
+
+	private static double negate(double value) {
+		return -value;
+	}
+
+	private static double not(double value) {
+		return value == 0 ? 1 : 0;
+	}
+
+	private static double add(double a, double b) {
+		return a + b;
+	}
+
+	private static double subtract(double a, double b) {
+		return a - b;
+	}
+
+	private static double multiply(double a, double b) {
+		return a * b;
+	}
+
+	private static double sinDegrees(double value) {
+		return Math.sin(value / 180 * Math.PI);
+	}
+
+	private static double cosDegrees(double value) {
+		return Math.cos(value / 180 * Math.PI);
+	}
+
+	/**
+	 * A compiled expression, evaluating its {@code ()double} method handle chain
+	 */
+	private record CompiledExpression(MethodHandle handle) implements IValue {
+		@Override
+		public double get() {
+			try {
+				return (double)this.handle.invokeExact();
+			}
+			catch (RuntimeException | Error ex) {
+				throw ex;
+			}
+			catch (Throwable ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+	}
+}
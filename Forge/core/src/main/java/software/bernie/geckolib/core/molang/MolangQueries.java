@@ -19,4 +19,24 @@ public final class MolangQueries {
 	public static final String IS_ON_FIRE = "query.is_on_fire";
 	public static final String GROUND_SPEED = "query.ground_speed";
 	public static final String YAW_SPEED = "query.yaw_speed";
+
+	/**
+	 * Pre-resolved {@link MolangParser#getSlot slot} indices for the builtin queries, for allocation-free binding
+	 */
+	public static final class Slots {
+		public static final int ANIM_TIME = MolangParser.INSTANCE.getSlot(MolangQueries.ANIM_TIME);
+		public static final int LIFE_TIME = MolangParser.INSTANCE.getSlot(MolangQueries.LIFE_TIME);
+		public static final int ACTOR_COUNT = MolangParser.INSTANCE.getSlot(MolangQueries.ACTOR_COUNT);
+		public static final int TIME_OF_DAY = MolangParser.INSTANCE.getSlot(MolangQueries.TIME_OF_DAY);
+		public static final int MOON_PHASE = MolangParser.INSTANCE.getSlot(MolangQueries.MOON_PHASE);
+		public static final int DISTANCE_FROM_CAMERA = MolangParser.INSTANCE.getSlot(MolangQueries.DISTANCE_FROM_CAMERA);
+		public static final int IS_ON_GROUND = MolangParser.INSTANCE.getSlot(MolangQueries.IS_ON_GROUND);
+		public static final int IS_IN_WATER = MolangParser.INSTANCE.getSlot(MolangQueries.IS_IN_WATER);
+		public static final int IS_IN_WATER_OR_RAIN = MolangParser.INSTANCE.getSlot(MolangQueries.IS_IN_WATER_OR_RAIN);
+		public static final int HEALTH = MolangParser.INSTANCE.getSlot(MolangQueries.HEALTH);
+		public static final int MAX_HEALTH = MolangParser.INSTANCE.getSlot(MolangQueries.MAX_HEALTH);
+		public static final int IS_ON_FIRE = MolangParser.INSTANCE.getSlot(MolangQueries.IS_ON_FIRE);
+		public static final int GROUND_SPEED = MolangParser.INSTANCE.getSlot(MolangQueries.GROUND_SPEED);
+		public static final int YAW_SPEED = MolangParser.INSTANCE.getSlot(MolangQueries.YAW_SPEED);
+	}
 }
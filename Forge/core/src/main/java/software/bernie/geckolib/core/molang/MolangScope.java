@@ -0,0 +1,166 @@
+package software.bernie.geckolib.core.molang;
+
+import software.bernie.geckolib.core.animatable.GeoAnimatable;
+
+import java.util.Arrays;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Evaluation scope for Molang expressions, holding the variable values for a single animatable instance.<br>
+ * Each {@link software.bernie.geckolib.core.animation.AnimatableManager AnimatableManager} owns a scope, which is made {@link MolangScope#setCurrent current}
+ * while its animatable is being animated. While a scope is current on a thread, every read and write of a {@link MolangParser#getSlot slotted}
+ * {@link LazyVariable} on that thread is resolved against the scope instead of the variable itself.<br>
+ * This means that query bindings and {@code variable.*} assignments persist per animatable instance rather than being shared globally,
+ * and that separate scopes can safely be evaluated on separate threads.<br>
+ * Slots that a scope hasn't bound fall back to the variable's global default value
+ */
+public final class MolangScope {
+	private static final ThreadLocal<MolangScope> CURRENT = new ThreadLocal<>();
+
+	private static final byte UNBOUND = 0;
+	private static final byte VALUE = 1;
+	private static final byte SUPPLIER = 2;
+	private static final byte MEMOIZED = 3;
+
+	private byte[] bindings = new byte[0];
+	private double[] values = new double[0];
+	private DoubleSupplier[] suppliers = new DoubleSupplier[0];
+	private long[] evaluatedEpochs = new long[0];
+	private long epoch = 0;
+
+	private GeoAnimatable animatable = null;
+	private double animTime = 0;
+
+	/**
+	 * Get the scope currently being evaluated on this thread, or null if no scope is current
+	 */
+	public static MolangScope current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Set the scope to be evaluated on this thread
+	 * @param scope The new scope, or null to use the global variable values
+	 * @return The previously current scope, so that it can be restored afterwards
+	 */
+	public static MolangScope setCurrent(MolangScope scope) {
+		MolangScope previous = CURRENT.get();
+
+		CURRENT.set(scope);
+
+		return previous;
+	}
+
+	/**
+	 * Prepare this scope for a new frame of evaluation for the given animatable, invalidating all memoized values
+	 * @param animatable The animatable being evaluated
+	 * @param animTime The internal tick counter kept by the animatable's manager
+	 */
+	public void prepare(GeoAnimatable animatable, double animTime) {
+		this.animatable = animatable;
+		this.animTime = animTime;
+		this.epoch++;
+	}
+
+	/**
+	 * Get the animatable this scope was last {@link MolangScope#prepare prepared} for
+	 */
+	public GeoAnimatable getAnimatable() {
+		return this.animatable;
+	}
+
+	/**
+	 * Get the animation time this scope was last {@link MolangScope#prepare prepared} with
+	 */
+	public double getAnimTime() {
+		return this.animTime;
+	}
+
+	/**
+	 * Whether this scope has a binding for the given slot
+	 */
+	public boolean isBound(int slot) {
+		return slot < this.bindings.length && this.bindings[slot] != UNBOUND;
+	}
+
+	/**
+	 * Get the value of the given slot in this scope.<br>
+	 * The slot must be {@link MolangScope#isBound bound}
+	 */
+	public double get(int slot) {
+		return switch (this.bindings[slot]) {
+			case SUPPLIER -> this.suppliers[slot].getAsDouble();
+			case MEMOIZED -> {
+				if (this.evaluatedEpochs[slot] != this.epoch) {
+					this.values[slot] = this.suppliers[slot].getAsDouble();
+					this.evaluatedEpochs[slot] = this.epoch;
+				}
+
+				yield this.values[slot];
+			}
+			default -> this.values[slot];
+		};
+	}
+
+	/**
+	 * Bind a constant value to the given slot
+	 */
+	public void set(int slot, double value) {
+		ensureCapacity(slot);
+
+		this.bindings[slot] = VALUE;
+		this.values[slot] = value;
+		this.suppliers[slot] = null;
+	}
+
+	/**
+	 * Bind a value supplier to the given slot, called every time the slot is read
+	 */
+	public void set(int slot, DoubleSupplier supplier) {
+		ensureCapacity(slot);
+
+		this.bindings[slot] = SUPPLIER;
+		this.suppliers[slot] = supplier;
+	}
+
+	/**
+	 * Bind a value supplier to the given slot, called at most once per {@link MolangScope#prepare frame}
+	 */
+	public void setMemoized(int slot, DoubleSupplier supplier) {
+		ensureCapacity(slot);
+
+		this.bindings[slot] = MEMOIZED;
+		this.suppliers[slot] = supplier;
+		this.evaluatedEpochs[slot] = this.epoch - 1;
+	}
+
+	/**
+	 * Remove the binding for the given slot, reverting it to the variable's global default value
+	 */
+	public void unbind(int slot) {
+		if (slot < this.bindings.length) {
+			this.bindings[slot] = UNBOUND;
+			this.suppliers[slot] = null;
+		}
+	}
+
+	/**
+	 * Remove all bindings from this scope
+	 */
+	public void clear() {
+		Arrays.fill(this.bindings, UNBOUND);
+		Arrays.fill(this.suppliers, null);
+	}
+
+	private void ensureCapacity(int slot) {
+		if (slot < this.bindings.length)
+			return;
+
+		int size = Math.max(slot + 1, MolangParser.getSlotCount());
+
+		this.bindings = Arrays.copyOf(this.bindings, size);
+		this.values = Arrays.copyOf(this.values, size);
+		this.suppliers = Arrays.copyOf(this.suppliers, size);
+		this.evaluatedEpochs = Arrays.copyOf(this.evaluatedEpochs, size);
+	}
+}
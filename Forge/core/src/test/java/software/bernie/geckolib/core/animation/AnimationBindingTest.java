@@ -0,0 +1,45 @@
+package software.bernie.geckolib.core.animation;
+
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestBakedModel;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AnimationBindingTest {
+	private static final int THREADS = 8;
+
+	@Test
+	public void bindsFromModelAlone() {
+		TestBakedModel model = new TestBakedModel(2);
+		AnimationBinding binding = AnimationBinding.get(model, AnimationTestFixture.rotationAnimation("swing", 3, 10, Animation.LoopType.LOOP, 10, -10));
+
+		assertArrayEquals(new int[] {0, 1, -1}, binding.boneIndices(), "Bones should be indexed in model order, without needing to be registered first");
+		assertArrayEquals(new String[] {"bone2"}, binding.missingBones());
+		assertTrue(binding.hasMissingBones());
+	}
+
+	@Test
+	public void sharesBindingsAcrossThreads() {
+		TestBakedModel model = new TestBakedModel(4);
+		Animation animation = AnimationTestFixture.rotationAnimation("swing", 4, 10, Animation.LoopType.LOOP, 10, -10);
+		CompletableFuture<AnimationBinding>[] futures = new CompletableFuture[THREADS];
+
+		for (int i = 0; i < THREADS; i++) {
+			futures[i] = CompletableFuture.supplyAsync(() -> AnimationBinding.get(model, animation));
+		}
+
+		AnimationBinding binding = futures[0].join();
+
+		for (CompletableFuture<AnimationBinding> future : futures) {
+			assertSame(binding, future.join(), "Every thread should receive the same cached binding");
+		}
+
+		AnimationBinding.clearCache();
+		assertNotSame(binding, AnimationBinding.get(model, animation), "Clearing the cache should rebuild the binding");
+	}
+}
@@ -0,0 +1,65 @@
+package software.bernie.geckolib.core.animation;
+
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestAnimatable;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestModel;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("deprecation")
+public class AnimationControllerCompatibilityTest {
+	private static final RawAnimation SEQUENCE = RawAnimation.begin().thenPlay("first").thenPlay("second").thenPlayAndHold("third");
+
+	private static TestModel createModel() {
+		return new TestModel(2,
+				AnimationTestFixture.rotationAnimation("first", 2, 5, Animation.LoopType.PLAY_ONCE, 1),
+				AnimationTestFixture.rotationAnimation("second", 2, 5, Animation.LoopType.PLAY_ONCE, 2),
+				AnimationTestFixture.rotationAnimation("third", 2, 5, Animation.LoopType.HOLD_ON_LAST_FRAME, 3));
+	}
+
+	private static AnimationController<TestAnimatable> getController(TestAnimatable animatable) {
+		return animatable.getManager().getAnimationControllers().get("main");
+	}
+
+	@Test
+	public void exposesRemainingStagesAsQueue() {
+		TestModel model = createModel();
+		TestAnimatable animatable = new TestAnimatable(owner -> List.of(new AnimationController<>(owner, "main", 0, state -> state.setAndContinue(SEQUENCE))));
+		AnimationController<TestAnimatable> controller = getController(animatable);
+
+		model.animate(animatable, 1);
+
+		assertEquals(controller.animationStages.length - controller.animationStageIndex, controller.animationQueue.size());
+		assertSame(controller.animationStages[controller.animationStageIndex], controller.animationQueue.peek());
+		assertThrows(UnsupportedOperationException.class, () -> controller.animationQueue.add(controller.animationStages[0]));
+
+		controller.animationQueue.clear();
+
+		assertTrue(controller.animationQueue.isEmpty());
+		assertNull(controller.animationQueue.poll());
+		assertEquals(controller.animationStages.length, controller.animationStageIndex, "Clearing the queue should skip the remaining stages");
+	}
+
+	@Test
+	public void keepsNamedBoneSnapshots() {
+		TestModel model = createModel();
+		TestAnimatable animatable = new TestAnimatable(owner -> List.of(new AnimationController<>(owner, "main", 0, state -> state.setAndContinue(SEQUENCE))));
+		AnimationController<TestAnimatable> controller = getController(animatable);
+
+		for (int i = 1; i <= 3; i++) {
+			model.animate(animatable, i);
+		}
+
+		for (int i = 0; i < 2; i++) {
+			assertNotNull(controller.indexedBoneSnapshots[i], "A snapshot should have been saved for each animated bone");
+			assertSame(controller.indexedBoneSnapshots[i], controller.boneSnapshots.get("bone" + i), "The named snapshots should match the indexed snapshots");
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package software.bernie.geckolib.core.animation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AnimationDiagnosticsTest {
+	private final List<String> messages = new ArrayList<>();
+
+	@BeforeEach
+	public void setUp() {
+		AnimationDiagnostics.reset();
+		AnimationDiagnostics.setReporter(this.messages::add);
+	}
+
+	@Test
+	public void reportsEachIssueOncePerInterval() {
+		for (int i = 0; i < 5; i++) {
+			AnimationDiagnostics.report(AnimationDiagnostics.Issue.MISSING_ANIMATION, String.class, "walk");
+		}
+
+		AnimationDiagnostics.report(AnimationDiagnostics.Issue.MISSING_ANIMATION, String.class, "run");
+		AnimationDiagnostics.report(AnimationDiagnostics.Issue.MISSING_ANIMATION, Integer.class, "walk");
+
+		assertEquals(List.of("Unable to find animation: walk for String", "Unable to find animation: run for String", "Unable to find animation: walk for Integer"), this.messages);
+	}
+
+	@Test
+	public void countsEveryOccurrence() {
+		for (int i = 0; i < 3; i++) {
+			AnimationDiagnostics.report(AnimationDiagnostics.Issue.MISSING_SOUND_KEYFRAME_HANDLER, String.class, "main");
+		}
+
+		AnimationDiagnostics.report(AnimationDiagnostics.Issue.MISSING_SOUND_KEYFRAME_HANDLER, Integer.class, "main");
+
+		assertEquals(3, AnimationDiagnostics.getCount(AnimationDiagnostics.Issue.MISSING_SOUND_KEYFRAME_HANDLER, String.class, "main"));
+		assertEquals(0, AnimationDiagnostics.getCount(AnimationDiagnostics.Issue.MISSING_PARTICLE_KEYFRAME_HANDLER, String.class, "main"));
+		assertEquals(4, AnimationDiagnostics.getTotalCount(AnimationDiagnostics.Issue.MISSING_SOUND_KEYFRAME_HANDLER));
+		assertEquals(3L, AnimationDiagnostics.getCounts().get(new AnimationDiagnostics.Key(AnimationDiagnostics.Issue.MISSING_SOUND_KEYFRAME_HANDLER, String.class, "main")));
+
+		AnimationDiagnostics.reset();
+
+		assertEquals(0, AnimationDiagnostics.getTotalCount(AnimationDiagnostics.Issue.MISSING_SOUND_KEYFRAME_HANDLER));
+	}
+}
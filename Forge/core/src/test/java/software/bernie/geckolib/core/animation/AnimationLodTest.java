@@ -0,0 +1,110 @@
+package software.bernie.geckolib.core.animation;
+
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestAnimatable;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestModel;
+import software.bernie.geckolib.core.object.PlayState;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class AnimationLodTest {
+	private static final RawAnimation SWING = RawAnimation.begin().thenLoop("swing");
+	private static final int FRAMES = 64;
+
+	private int handlerCalls = 0;
+	private int lowPriorityHandlerCalls = 0;
+
+	private TestAnimatable createAnimatable() {
+		return new TestAnimatable(animatable -> List.of(
+				new AnimationController<>(animatable, "main", 0, state -> {
+					this.handlerCalls++;
+
+					return state.setAndContinue(SWING);
+				}),
+				new AnimationController<TestAnimatable>(animatable, "idle", 0, state -> {
+					this.lowPriorityHandlerCalls++;
+
+					return PlayState.STOP;
+				}).lowPriority()));
+	}
+
+	private TestModel animate(AnimationLod lod) {
+		TestModel model = new TestModel(1, AnimationTestFixture.rotationAnimation("swing", 1, 10, Animation.LoopType.LOOP, 10, -10, 0));
+		TestAnimatable animatable = createAnimatable();
+
+		model.lod = lod;
+
+		for (int frame = 0; frame < FRAMES; frame++) {
+			model.animate(animatable, frame);
+		}
+
+		return model;
+	}
+
+	@Test
+	public void selectsLodByScreenSize() {
+		assertSame(AnimationLod.FULL, AnimationLod.forScreenSize(Double.MAX_VALUE, 0.1f, 0.05f, 0.025f));
+		assertSame(AnimationLod.FULL, AnimationLod.forScreenSize(0.1f, 0.1f, 0.05f, 0.025f), "Sizes on a threshold should use the higher level of detail");
+		assertSame(AnimationLod.HALF_RATE, AnimationLod.forScreenSize(0.07, 0.1f, 0.05f, 0.025f));
+		assertSame(AnimationLod.QUARTER_RATE, AnimationLod.forScreenSize(0.03, 0.1f, 0.05f, 0.025f));
+		assertSame(AnimationLod.EIGHTH_RATE, AnimationLod.forScreenSize(0.01, 0.1f, 0.05f, 0.025f));
+		assertSame(AnimationLod.EIGHTH_RATE, AnimationLod.forScreenSize(0, 0.1f, 0.05f, 0.025f));
+	}
+
+	@Test
+	public void evaluatesEveryFrameAtFullDetail() {
+		animate(AnimationLod.FULL);
+
+		assertEquals(FRAMES, this.handlerCalls);
+		assertEquals(FRAMES, this.lowPriorityHandlerCalls);
+	}
+
+	@Test
+	public void evaluatesOncePerUpdateInterval() {
+		for (AnimationLod lod : new AnimationLod[] {AnimationLod.HALF_RATE, AnimationLod.QUARTER_RATE, AnimationLod.EIGHTH_RATE}) {
+			this.handlerCalls = 0;
+
+			animate(lod);
+
+			assertEquals(FRAMES / lod.updateInterval(), this.handlerCalls, "Wrong number of evaluations at an update interval of " + lod.updateInterval());
+		}
+	}
+
+	@Test
+	public void holdsPoseBetweenUpdates() {
+		TestModel model = new TestModel(1, AnimationTestFixture.rotationAnimation("swing", 1, 10, Animation.LoopType.LOOP, 10, -10, 0));
+		TestAnimatable animatable = createAnimatable();
+		float evaluatedRotation = 0;
+
+		model.lod = AnimationLod.QUARTER_RATE;
+
+		for (int frame = 0; frame < FRAMES; frame++) {
+			model.animate(animatable, frame);
+
+			float rotation = model.getAnimationProcessor().getBone(0).getRotX();
+
+			if (frame % AnimationLod.QUARTER_RATE.updateInterval() == 0) {
+				evaluatedRotation = rotation;
+			}
+			else {
+				assertEquals(evaluatedRotation, rotation, 1e-5f, "Skipped frames should keep the last evaluated pose, at frame " + frame);
+			}
+		}
+	}
+
+	@Test
+	public void skipsLowPriorityControllersOnlyWhenRequested() {
+		animate(AnimationLod.HALF_RATE);
+
+		assertEquals(FRAMES / AnimationLod.HALF_RATE.updateInterval(), this.lowPriorityHandlerCalls, "Low priority controllers should still run at half rate");
+
+		this.lowPriorityHandlerCalls = 0;
+
+		animate(AnimationLod.QUARTER_RATE);
+
+		assertEquals(0, this.lowPriorityHandlerCalls, "Low priority controllers should be skipped at quarter rate");
+	}
+}
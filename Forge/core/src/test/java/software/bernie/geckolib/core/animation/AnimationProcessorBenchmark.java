@@ -0,0 +1,131 @@
+package software.bernie.geckolib.core.animation;
+
+import com.eliotlash.mclib.math.Constant;
+import com.eliotlash.mclib.math.IValue;
+import software.bernie.geckolib.core.animatable.model.CoreGeoBone;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestAnimatable;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestModel;
+import software.bernie.geckolib.core.keyframe.BoneAnimation;
+import software.bernie.geckolib.core.keyframe.Keyframe;
+import software.bernie.geckolib.core.keyframe.KeyframeSamples;
+import software.bernie.geckolib.core.keyframe.KeyframeStack;
+import software.bernie.geckolib.core.keyframe.event.data.CustomInstructionKeyframeData;
+import software.bernie.geckolib.core.keyframe.event.data.ParticleKeyframeData;
+import software.bernie.geckolib.core.keyframe.event.data.SoundKeyframeData;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measurement harness for the core animation pipeline, driving {@link AnimationProcessor#tickAnimation} directly without Minecraft.<br>
+ * Animates a crowd of entities sharing one model, each with a single looping controller, and reports the time and allocation per render frame.<br>
+ * This is the harness used for the measurements quoted in the animation performance changes. Run {@link #main} with the test classpath, configured via system properties:
+ * <ul>
+ *     <li>{@code entities} (50), {@code bones} (20): The size of the crowd and model</li>
+ *     <li>{@code warmup} (3000), {@code frames} (2000): The number of render frames to warm up for, and then measure</li>
+ *     <li>{@code hold}: Play and hold the animation instead of looping it</li>
+ *     <li>{@code sleep}: Allow the controller to {@link AnimationController#sleepWhenIdle() sleep} once idle</li>
+ *     <li>{@code sample}: Pre-sample the animation's keyframes</li>
+ *     <li>{@code rate} (0): The fixed evaluation rate in evaluations per second, or 0 to evaluate every frame</li>
+ *     <li>{@code lod} (1): The {@link AnimationLod#updateInterval() LOD update interval}</li>
+ *     <li>{@code shared} (0): The {@link software.bernie.geckolib.core.animatable.GeoAnimatable#getSharedPoseInterval() shared pose interval}</li>
+ * </ul>
+ * Allocation is measured as the thread-allocated-bytes delta over the measured frames, and requires a HotSpot-based JVM
+ */
+public final class AnimationProcessorBenchmark {
+	public static void main(String[] args) {
+		int entityCount = Integer.getInteger("entities", 50);
+		int boneCount = Integer.getInteger("bones", 20);
+		int warmupFrames = Integer.getInteger("warmup", 3000);
+		int measuredFrames = Integer.getInteger("frames", 2000);
+		double rate = Double.parseDouble(System.getProperty("rate", "0"));
+		RawAnimation rawAnimation = Boolean.getBoolean("hold") ? RawAnimation.begin().thenPlayAndHold("walk") : RawAnimation.begin().thenLoop("walk");
+		TestModel model = new TestModel(boneCount, buildAnimation(boneCount, Boolean.getBoolean("sample")));
+		TestAnimatable[] animatables = new TestAnimatable[entityCount];
+		double[] times = new double[entityCount];
+
+		model.stepLength = rate > 0 ? 20 / rate : 0;
+		model.lod = new AnimationLod(Integer.getInteger("lod", 1), false);
+
+		for (int i = 0; i < entityCount; i++) {
+			TestAnimatable animatable = new TestAnimatable(owner -> {
+				AnimationController<TestAnimatable> controller = new AnimationController<>(owner, "main", 5, state -> state.setAndContinue(rawAnimation));
+
+				return List.of(Boolean.getBoolean("sleep") ? controller.sleepWhenIdle() : controller);
+			});
+
+			animatable.sharedPoseInterval = Double.parseDouble(System.getProperty("shared", "0"));
+			animatables[i] = animatable;
+			times[i] = i * 0.37;
+		}
+
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		long startBytes = 0;
+		long startNanos = 0;
+
+		for (int frame = 0; frame < warmupFrames + measuredFrames; frame++) {
+			if (frame == warmupFrames) {
+				startBytes = threadBean.getThreadAllocatedBytes(threadId);
+				startNanos = System.nanoTime();
+			}
+
+			for (int i = 0; i < entityCount; i++) {
+				model.animate(animatables[i], times[i] += 0.33);
+			}
+		}
+
+		long bytes = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+		long nanos = System.nanoTime() - startNanos;
+		double checksum = 0;
+
+		for (int i = 0; i < model.getAnimationProcessor().getBoneCount(); i++) {
+			CoreGeoBone bone = model.getAnimationProcessor().getBone(i);
+
+			checksum += bone.getRotX() + bone.getPosY() + bone.getScaleZ();
+		}
+
+		System.out.println("checksum " + checksum);
+		System.out.printf("%d entities x %d bones: %.0f bytes/frame (%.1f bytes/entity/frame), %.1f us/frame%n",
+				entityCount, boneCount, bytes / (double)measuredFrames, bytes / (double)measuredFrames / entityCount, nanos / 1000d / measuredFrames);
+	}
+
+	private static Animation buildAnimation(int boneCount, boolean sample) {
+		BoneAnimation[] boneAnimations = new BoneAnimation[boneCount];
+
+		for (int i = 0; i < boneCount; i++) {
+			boneAnimations[i] = new BoneAnimation("bone" + i, buildKeyframes(12, 0.5, sample), buildKeyframes(6, 2, sample), buildKeyframes(3, 2, sample));
+		}
+
+		return new Animation("walk", 48, Animation.LoopType.LOOP, boneAnimations,
+				new Animation.Keyframes(new SoundKeyframeData[0], new ParticleKeyframeData[0], new CustomInstructionKeyframeData[0]));
+	}
+
+	private static KeyframeStack<Keyframe<IValue>> buildKeyframes(int keyframeCount, double amplitude, boolean sample) {
+		List<Keyframe<IValue>> xFrames = new ArrayList<>();
+		List<Keyframe<IValue>> yFrames = new ArrayList<>();
+		List<Keyframe<IValue>> zFrames = new ArrayList<>();
+		IValue previous = new Constant(0);
+
+		for (int i = 0; i < keyframeCount; i++) {
+			IValue value = new Constant(Math.sin(i) * amplitude);
+			EasingType easingType = i % 3 == 0 ? EasingType.EASE_IN_OUT_SINE : i % 3 == 1 ? EasingType.EASE_OUT_BACK : EasingType.LINEAR;
+
+			xFrames.add(new Keyframe<>(4, previous, value, easingType));
+			yFrames.add(new Keyframe<>(4, previous, value, easingType));
+			zFrames.add(new Keyframe<>(4, previous, value, easingType));
+
+			previous = value;
+		}
+
+		KeyframeStack<Keyframe<IValue>> stack = new KeyframeStack<>(xFrames, yFrames, zFrames);
+
+		if (!sample)
+			return stack;
+
+		KeyframeSamples samples = KeyframeSamples.bake(stack, 0.5);
+
+		return samples == null ? stack : stack.withSamples(samples);
+	}
+}
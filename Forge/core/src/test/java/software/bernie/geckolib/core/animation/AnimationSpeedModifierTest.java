@@ -0,0 +1,50 @@
+package software.bernie.geckolib.core.animation;
+
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestAnimatable;
+import software.bernie.geckolib.core.object.PlayState;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AnimationSpeedModifierTest {
+	private static AnimationController<TestAnimatable> createController() {
+		TestAnimatable animatable = new TestAnimatable(owner -> List.of());
+
+		return new AnimationController<>(animatable, "main", 0, state -> PlayState.STOP);
+	}
+
+	@Test
+	public void defaultsToNeutralSpeed() {
+		assertEquals(1, createController().getAnimationSpeed());
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void usesPrimitiveModifier() {
+		AnimationController<TestAnimatable> controller = createController().setAnimationSpeedModifier(animatable -> 2);
+
+		assertEquals(2, controller.getAnimationSpeed());
+		assertEquals(2, controller.animationSpeedModifier.apply(controller.animatable), "The deprecated field should reflect the primitive modifier");
+	}
+
+	@Test
+	public void usesBoxedHandler() {
+		assertEquals(0.5, createController().setAnimationSpeedHandler(animatable -> 0.5).getAnimationSpeed());
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void honoursDirectlyAssignedLegacyModifier() {
+		AnimationController<TestAnimatable> controller = createController().setAnimationSpeed(2);
+
+		controller.animationSpeedModifier = animatable -> 3d;
+
+		assertEquals(3, controller.getAnimationSpeed(), "Subclasses assigning the deprecated field directly should keep working");
+
+		controller.setAnimationSpeed(4);
+
+		assertEquals(4, controller.getAnimationSpeed());
+	}
+}
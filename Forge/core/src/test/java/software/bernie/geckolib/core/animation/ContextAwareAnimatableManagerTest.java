@@ -0,0 +1,75 @@
+package software.bernie.geckolib.core.animation;
+
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.animatable.GeoAnimatable;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestAnimatable;
+import software.bernie.geckolib.core.molang.MolangScope;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ContextAwareAnimatableManagerTest {
+	private enum Context {
+		FIRST_PERSON,
+		THIRD_PERSON
+	}
+
+	private static class TestContextManager extends ContextAwareAnimatableManager<TestAnimatable, Context> {
+		private Context context = Context.FIRST_PERSON;
+
+		public TestContextManager(GeoAnimatable animatable) {
+			super(animatable);
+		}
+
+		@Override
+		protected Map<Context, AnimatableManager<TestAnimatable>> buildContextOptions(GeoAnimatable animatable) {
+			Map<Context, AnimatableManager<TestAnimatable>> managers = new EnumMap<>(Context.class);
+
+			for (Context context : Context.values()) {
+				managers.put(context, new AnimatableManager<>(animatable));
+			}
+
+			return managers;
+		}
+
+		@Override
+		public Context getCurrentContext() {
+			return this.context;
+		}
+	}
+
+	@Test
+	public void keepsUnsettledBonesPerContext() {
+		TestContextManager manager = new TestContextManager(new TestAnimatable(owner -> List.of()));
+
+		manager.getUnsettledBones().set(2);
+		manager.context = Context.THIRD_PERSON;
+
+		assertSame(manager.getManagerForContext(Context.THIRD_PERSON).getUnsettledBones(), manager.getUnsettledBones());
+		assertTrue(manager.getUnsettledBones().isEmpty(), "Bones unsettled in one context shouldn't be visible in another");
+
+		manager.getUnsettledBones().set(5);
+		manager.getUnsettledBones().clear(2);
+		manager.context = Context.FIRST_PERSON;
+
+		assertTrue(manager.getUnsettledBones().get(2), "Settling a bone in one context shouldn't settle it in another");
+		assertFalse(manager.getUnsettledBones().get(5), "Bones unsettled in one context shouldn't be visible in another");
+	}
+
+	@Test
+	public void keepsMolangScopePerContext() {
+		TestContextManager manager = new TestContextManager(new TestAnimatable(owner -> List.of()));
+		MolangScope firstPersonScope = manager.getMolangScope();
+
+		manager.context = Context.THIRD_PERSON;
+
+		assertSame(manager.getManagerForContext(Context.THIRD_PERSON).getMolangScope(), manager.getMolangScope());
+		assertNotSame(firstPersonScope, manager.getMolangScope(), "Each context should hold its own Molang variable values");
+	}
+}
@@ -0,0 +1,87 @@
+package software.bernie.geckolib.core.animation;
+
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestAnimatable;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestModel;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FixedRateEvaluationTest {
+	private static final RawAnimation SWING = RawAnimation.begin().thenLoop("swing");
+	private static final double STEP_LENGTH = 5;
+	private static final double FRAME_LENGTH = 0.25;
+
+	private int handlerCalls = 0;
+
+	private TestAnimatable createAnimatable() {
+		return new TestAnimatable(animatable -> List.of(new AnimationController<>(animatable, "main", 0, state -> {
+			this.handlerCalls++;
+
+			return state.setAndContinue(SWING);
+		})));
+	}
+
+	private static TestModel createModel(double stepLength) {
+		TestModel model = new TestModel(1, AnimationTestFixture.rotationAnimation("swing", 1, 10, Animation.LoopType.LOOP, 10, -10, 0));
+
+		model.stepLength = stepLength;
+
+		return model;
+	}
+
+	/**
+	 * Sample the rotation of the model's only bone when animated every frame at each of the given times
+	 */
+	private static float[] sampleFullRate(double[] times) {
+		TestModel model = createModel(0);
+		TestAnimatable animatable = new TestAnimatable(owner -> List.of(new AnimationController<>(owner, "main", 0, state -> state.setAndContinue(SWING))));
+		float[] rotations = new float[times.length];
+
+		for (int i = 0; i < times.length; i++) {
+			model.animate(animatable, times[i]);
+
+			rotations[i] = model.getAnimationProcessor().getBone(0).getRotX();
+		}
+
+		return rotations;
+	}
+
+	@Test
+	public void evaluatesOncePerStep() {
+		TestModel model = createModel(STEP_LENGTH);
+		TestAnimatable animatable = createAnimatable();
+
+		for (double time = 0; time < 100; time += FRAME_LENGTH) {
+			model.animate(animatable, time);
+		}
+
+		assertEquals(100 / STEP_LENGTH, this.handlerCalls, "Animations should only be evaluated once per step, regardless of frame rate");
+	}
+
+	@Test
+	public void interpolatesBetweenEvaluatedSteps() {
+		int steps = 12;
+		double[] stepTimes = new double[steps];
+
+		for (int i = 0; i < steps; i++) {
+			stepTimes[i] = i * STEP_LENGTH;
+		}
+
+		float[] stepRotations = sampleFullRate(stepTimes);
+		TestModel model = createModel(STEP_LENGTH);
+		TestAnimatable animatable = createAnimatable();
+
+		for (double time = 0; time < (steps - 1) * STEP_LENGTH; time += FRAME_LENGTH) {
+			model.animate(animatable, time);
+
+			int step = (int)Math.floor(time / STEP_LENGTH);
+			float progress = (float)((time - step * STEP_LENGTH) / STEP_LENGTH);
+			float previous = stepRotations[Math.max(0, step - 1)];
+			float expected = step == 0 ? stepRotations[0] : previous + (stepRotations[step] - previous) * progress;
+
+			assertEquals(expected, model.getAnimationProcessor().getBone(0).getRotX(), 1e-4f, "Wrong interpolated pose at time " + time);
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package software.bernie.geckolib.core.animation;
+
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestBakedModel;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SharedPoseCacheTest {
+	private static final TestBakedModel MODEL = new TestBakedModel(1);
+	private static final Animation SWING = AnimationTestFixture.rotationAnimation("swing", 1, 10, Animation.LoopType.LOOP, 10, -10, 0);
+
+	private static SharedPoseCache.Key key(String controller, Set<String> boneMask, long phase) {
+		SharedPoseCache.Key key = new SharedPoseCache.Key().reset(MODEL, 2);
+
+		key.add(controller, boneMask, SWING, phase);
+
+		return key;
+	}
+
+	@Test
+	public void reusesKeyAfterCaching() {
+		SharedPoseCache cache = new SharedPoseCache();
+		SharedPoseCache.Key key = key("main", null, 0);
+		float[] pose = new float[9];
+
+		cache.put(key, pose);
+		key.reset(MODEL, 2).add("main", null, SWING, 1);
+
+		assertNull(cache.get(key), "Re-using a key shouldn't modify the cached copy");
+		assertSame(pose, cache.get(key("main", null, 0)));
+	}
+
+	@Test
+	public void distinguishesControllersAndBoneMasks() {
+		SharedPoseCache cache = new SharedPoseCache();
+
+		cache.put(key("main", Set.of("bone0"), 0), new float[9]);
+
+		assertNotNull(cache.get(key("main", Set.of("bone0"), 0)), "Equal bone masks should share a pose");
+		assertNull(cache.get(key("other", Set.of("bone0"), 0)), "Poses shouldn't be shared between differently named controllers");
+		assertNull(cache.get(key("main", Set.of("bone1"), 0)), "Poses shouldn't be shared between different bone masks");
+		assertNull(cache.get(key("main", null, 0)), "Poses shouldn't be shared between masked and unmasked controllers");
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedPose() {
+		SharedPoseCache cache = new SharedPoseCache();
+
+		for (int phase = 0; phase < 256; phase++) {
+			cache.put(key("main", null, phase), new float[9]);
+		}
+
+		cache.get(key("main", null, 0));
+		cache.put(key("main", null, 256), new float[9]);
+
+		assertNotNull(cache.get(key("main", null, 0)), "Recently used poses should be kept");
+		assertNull(cache.get(key("main", null, 1)), "The least recently used pose should be evicted when the cache is full");
+		assertNotNull(cache.get(key("main", null, 256)));
+	}
+
+	@Test
+	public void clearsEveryCache() {
+		SharedPoseCache cache = new SharedPoseCache();
+
+		cache.put(key("main", null, 0), new float[9]);
+		SharedPoseCache.clearCache();
+
+		assertNull(cache.get(key("main", null, 0)));
+	}
+}
@@ -0,0 +1,101 @@
+package software.bernie.geckolib.core.animation;
+
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.animation.AnimationTestFixture.TestAnimatable;
+import software.bernie.geckolib.core.object.PlayState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TriggerableAnimationTest {
+	private static final RawAnimation ATTACK = RawAnimation.begin().thenPlay("attack");
+	private static final RawAnimation JUMP = RawAnimation.begin().thenPlay("jump");
+
+	private static AnimationController<TestAnimatable> controller(TestAnimatable animatable, String name) {
+		return new AnimationController<>(animatable, name, 0, state -> PlayState.STOP);
+	}
+
+	private static AnimationController<TestAnimatable> getController(TestAnimatable animatable, String name) {
+		return animatable.getManager().getAnimationControllers().get(name);
+	}
+
+	@Test
+	public void triggersFirstRegisteringController() {
+		TestAnimatable animatable = new TestAnimatable(owner -> List.of(
+				controller(owner, "first").triggerableAnim("attack", ATTACK),
+				controller(owner, "second").triggerableAnim("attack", JUMP)));
+
+		animatable.getManager().tryTriggerAnimation("attack");
+
+		assertSame(ATTACK, getController(animatable, "first").triggeredAnimation);
+		assertNull(getController(animatable, "second").triggeredAnimation);
+	}
+
+	@Test
+	public void indexesAnimationsRegisteredAfterConstruction() {
+		TestAnimatable animatable = new TestAnimatable(owner -> List.of(controller(owner, "main")));
+		AnimationController<TestAnimatable> controller = getController(animatable, "main");
+
+		controller.triggerableAnim("attack", ATTACK);
+		animatable.getManager().tryTriggerAnimation("attack");
+
+		assertSame(ATTACK, controller.triggeredAnimation);
+
+		controller.triggerableAnim("attack", JUMP);
+		animatable.getManager().tryTriggerAnimation("attack");
+
+		assertSame(JUMP, controller.triggeredAnimation, "Re-registering a triggerable animation should replace the indexed animation");
+	}
+
+	@Test
+	public void prefersEarlierControllerRegisteringLater() {
+		TestAnimatable animatable = new TestAnimatable(owner -> List.of(controller(owner, "first"), controller(owner, "second").triggerableAnim("attack", JUMP)));
+
+		getController(animatable, "first").triggerableAnim("attack", ATTACK);
+		animatable.getManager().tryTriggerAnimation("attack");
+
+		assertSame(ATTACK, getController(animatable, "first").triggeredAnimation);
+		assertNull(getController(animatable, "second").triggeredAnimation);
+	}
+
+	@Test
+	public void tracksAddedAndRemovedControllers() {
+		TestAnimatable animatable = new TestAnimatable(owner -> List.of());
+		AnimatableManager<TestAnimatable> manager = animatable.getManager();
+		AnimationController<TestAnimatable> controller = controller(animatable, "main");
+
+		manager.addController(controller);
+		controller.triggerableAnim("attack", ATTACK);
+		manager.removeController("main");
+		manager.tryTriggerAnimation("attack");
+
+		assertNull(controller.triggeredAnimation, "Removed controllers shouldn't be triggered");
+
+		manager.addController(controller);
+		manager.tryTriggerAnimation("attack");
+
+		assertSame(ATTACK, controller.triggeredAnimation);
+	}
+
+	@Test
+	public void triggersThroughControllerOverrides() {
+		List<String> triggered = new ArrayList<>();
+		TestAnimatable animatable = new TestAnimatable(owner -> List.of(new AnimationController<>(owner, "main", 0, state -> PlayState.STOP) {
+			@Override
+			public boolean tryTriggerAnimation(String animName) {
+				triggered.add(animName);
+
+				return super.tryTriggerAnimation(animName);
+			}
+		}.triggerableAnim("attack", ATTACK)));
+
+		animatable.getManager().tryTriggerAnimation("attack");
+
+		assertEquals(List.of("attack"), triggered, "Overridden controller trigger handling should still be called");
+		assertSame(ATTACK, getController(animatable, "main").triggeredAnimation);
+	}
+}
@@ -0,0 +1,144 @@
+package software.bernie.geckolib.core.molang;
+
+import com.eliotlash.mclib.math.Constant;
+import com.eliotlash.mclib.math.Group;
+import com.eliotlash.mclib.math.IValue;
+import com.eliotlash.mclib.math.Negate;
+import com.eliotlash.mclib.math.Negative;
+import com.eliotlash.mclib.math.Operation;
+import com.eliotlash.mclib.math.Operator;
+import com.eliotlash.mclib.math.Ternary;
+import com.eliotlash.mclib.math.Variable;
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.molang.expressions.CompiledMolangValue;
+import software.bernie.geckolib.core.molang.expressions.MolangCompoundValue;
+import software.bernie.geckolib.core.molang.expressions.MolangValue;
+import software.bernie.geckolib.core.molang.expressions.MolangVariableHolder;
+import software.bernie.geckolib.core.molang.functions.CosDegrees;
+import software.bernie.geckolib.core.molang.functions.SinDegrees;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MolangCompilerTest {
+	private static final double[] INPUTS = {0, 1, -1, 0.5, 2.75, -13.2, 90, 360, 1e9, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+
+	private final Variable x = new Variable("x", 0);
+	private final Variable y = new Variable("y", 0);
+
+	private static IValue op(Operation operation, IValue a, IValue b) {
+		return new Operator(operation, a, b);
+	}
+
+	private static IValue sin(IValue value) throws Exception {
+		return new SinDegrees(new IValue[] {value}, "math.sin");
+	}
+
+	private static IValue cos(IValue value) throws Exception {
+		return new CosDegrees(new IValue[] {value}, "math.cos");
+	}
+
+	/**
+	 * Evaluate the interpreted and compiled forms of the given expression for every combination of inputs, and check that they produce identical results
+	 */
+	private void assertEquivalent(MolangValue expression) {
+		MolangValue compiled = MolangCompiler.compile(expression);
+
+		assertTrue(compiled instanceof CompiledMolangValue, "Expression should have been compiled");
+
+		for (double xValue : INPUTS) {
+			for (double yValue : INPUTS) {
+				this.x.set(xValue);
+				this.y.set(yValue);
+
+				double interpreted = expression.get();
+
+				this.x.set(xValue);
+				this.y.set(yValue);
+
+				assertEquals(interpreted, compiled.get(), 0, "Compiled result differs from interpreted result for " + expression + " with x = " + xValue + ", y = " + yValue);
+			}
+		}
+	}
+
+	@Test
+	public void compilesArithmetic() {
+		for (Operation operation : Operation.values()) {
+			assertEquivalent(new MolangValue(op(operation, this.x, this.y)));
+			assertEquivalent(new MolangValue(op(operation, new Group(op(Operation.ADD, this.x, new Constant(3))), new Negative(this.y))));
+		}
+	}
+
+	@Test
+	public void compilesConditionals() {
+		assertEquivalent(new MolangValue(new Ternary(this.x, this.y, new Constant(-4))));
+		assertEquivalent(new MolangValue(new Ternary(new Negate(this.x), op(Operation.MUL, this.y, this.y), new Negative(this.x))));
+		assertEquivalent(new MolangValue(new Negate(new Negate(this.y))));
+	}
+
+	@Test
+	public void compilesFunctions() throws Exception {
+		assertEquivalent(new MolangValue(op(Operation.MUL, sin(op(Operation.MUL, this.x, new Constant(180))), new Constant(12))));
+		assertEquivalent(new MolangValue(op(Operation.SUB, cos(op(Operation.ADD, this.x, new Constant(45))), sin(this.y))));
+	}
+
+	@Test
+	public void compilesAssignmentsInOrder() throws Exception {
+		Variable local = new Variable("temp.wave", 0);
+		MolangCompoundValue compound = new MolangCompoundValue(new MolangVariableHolder(local, sin(op(Operation.MUL, this.x, new Constant(270)))));
+
+		compound.values.add(new MolangVariableHolder(local, op(Operation.ADD, local, this.y)));
+		compound.values.add(new MolangValue(op(Operation.MUL, local, local), true));
+
+		assertEquivalent(compound);
+
+		this.x.set(0.5);
+		this.y.set(1);
+		MolangCompiler.compile(compound).get();
+
+		assertEquals(Math.sin(0.5 * 270 / 180 * Math.PI) + 1, local.get(), 1e-12, "Assignments should be applied to the variable");
+	}
+
+	@Test
+	public void readsScopedVariables() {
+		LazyVariable variable = MolangParser.INSTANCE.getVariable("variable.compiled_scoped");
+		MolangValue compiled = MolangCompiler.compile(new MolangValue(op(Operation.MUL, variable, new Constant(2))));
+		MolangScope scope = new MolangScope();
+
+		variable.set(3);
+		assertEquals(6, compiled.get(), "The global value should be read without a current scope");
+
+		MolangScope previous = MolangScope.setCurrent(scope);
+
+		try {
+			assertEquals(6, compiled.get(), "The global value should be read when the slot isn't bound in the current scope");
+
+			variable.set(5);
+			assertEquals(10, compiled.get(), "The scoped value should be read when the slot is bound");
+
+			scope.unbind(variable.getSlot());
+			assertEquals(6, compiled.get());
+		}
+		finally {
+			MolangScope.setCurrent(previous);
+		}
+
+		assertEquals(6, compiled.get(), "Scoped values shouldn't leak into the global value");
+	}
+
+	@Test
+	public void leavesConstantsUncompiled() {
+		MolangValue constant = new MolangValue(new Constant(5));
+
+		assertSame(constant, MolangCompiler.compile(constant));
+	}
+
+	@Test
+	public void recompilesCompiledExpressions() {
+		MolangValue compiled = MolangCompiler.compile(new MolangValue(op(Operation.ADD, this.x, this.y)));
+
+		assertSame(compiled, MolangCompiler.compile(compiled));
+		assertEquivalent(new MolangValue(op(Operation.MUL, compiled, new Constant(2))));
+	}
+}
@@ -0,0 +1,75 @@
+package software.bernie.geckolib.core.molang;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MolangParserTest {
+	private static final int THREADS = 8;
+	private static final int VARIABLES = 500;
+
+	@Test
+	public void allocatesSlotsConcurrently() {
+		int slotCount = MolangParser.getSlotCount();
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[THREADS];
+
+		for (int i = 0; i < THREADS; i++) {
+			futures[i] = CompletableFuture.runAsync(() -> {
+				for (int j = 0; j < VARIABLES; j++) {
+					MolangParser.INSTANCE.getVariable("variable.concurrent_" + j);
+				}
+			});
+		}
+
+		CompletableFuture.allOf(futures).join();
+
+		BitSet slots = new BitSet();
+
+		for (int i = 0; i < VARIABLES; i++) {
+			LazyVariable variable = MolangParser.INSTANCE.getVariable("variable.concurrent_" + i);
+
+			assertFalse(slots.get(variable.getSlot()), "Each variable should have its own slot");
+			assertSame(variable, MolangParser.INSTANCE.getVariable(variable.getSlot()));
+			slots.set(variable.getSlot());
+		}
+
+		assertEquals(slotCount + VARIABLES, MolangParser.getSlotCount(), "Each variable should only be registered once");
+	}
+
+	@Test
+	public void reusesStatementLocalSlots() {
+		LazyVariable first = new LazyVariable("temp.reused", 0);
+		LazyVariable second = new LazyVariable("temp.reused", 0);
+		LazyVariable other = new LazyVariable("temp.other", 0);
+
+		MolangParser.allocateSlot(first);
+
+		int slotCount = MolangParser.getSlotCount();
+
+		MolangParser.allocateSlot(second);
+		assertEquals(first.getSlot(), second.getSlot(), "Statement-local variables of the same name should share a slot");
+		assertEquals(slotCount, MolangParser.getSlotCount(), "Re-parsing a statement-local variable shouldn't allocate a new slot");
+
+		MolangParser.allocateSlot(other);
+		assertFalse(other.getSlot() == first.getSlot(), "Differently named statement-local variables should have their own slots");
+		assertFalse(MolangParser.VARIABLES.containsKey("temp.reused"), "Statement-local variables shouldn't be registered");
+	}
+
+	@Test
+	public void keepsSlotOnReregistration() {
+		LazyVariable variable = MolangParser.INSTANCE.getVariable("variable.reregistered");
+		int slotCount = MolangParser.getSlotCount();
+		LazyVariable replacement = new LazyVariable("variable.reregistered", 3);
+
+		MolangParser.INSTANCE.register(replacement);
+
+		assertEquals(variable.getSlot(), replacement.getSlot());
+		assertSame(replacement, MolangParser.INSTANCE.getVariable(variable.getSlot()));
+		assertEquals(slotCount, MolangParser.getSlotCount());
+	}
+}
@@ -0,0 +1,113 @@
+package software.bernie.geckolib.core.molang;
+
+import com.eliotlash.mclib.math.Constant;
+import com.eliotlash.mclib.math.Group;
+import com.eliotlash.mclib.math.IValue;
+import com.eliotlash.mclib.math.Negate;
+import com.eliotlash.mclib.math.Negative;
+import com.eliotlash.mclib.math.Operation;
+import com.eliotlash.mclib.math.Operator;
+import com.eliotlash.mclib.math.Ternary;
+import com.eliotlash.mclib.math.Variable;
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.molang.expressions.MolangCompoundValue;
+import software.bernie.geckolib.core.molang.expressions.MolangValue;
+import software.bernie.geckolib.core.molang.expressions.MolangVariableHolder;
+import software.bernie.geckolib.core.molang.functions.SinDegrees;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MolangSimplifierTest {
+	private final Variable x = new Variable("x", 0);
+
+	private static IValue op(Operation operation, IValue a, IValue b) {
+		return new Operator(operation, a, b);
+	}
+
+	private static IValue constant(double value) {
+		return new Constant(value);
+	}
+
+	@Test
+	public void foldsConstantOperands() throws Exception {
+		IValue folded = MolangSimplifier.simplifyNode(op(Operation.MUL, new Group(op(Operation.ADD, constant(2), constant(3))), new Negative(constant(4))));
+
+		assertTrue(folded instanceof Constant, "Constant arithmetic should be folded");
+		assertEquals(-20, folded.get());
+		assertEquals(0, MolangSimplifier.simplifyNode(new Negate(constant(5))).get());
+		assertEquals(1, MolangSimplifier.simplifyNode(new SinDegrees(new IValue[] {op(Operation.ADD, constant(45), constant(45))}, "math.sin")).get(), 1e-12);
+	}
+
+	@Test
+	public void foldsConstantConditions() {
+		IValue ifTrue = op(Operation.ADD, this.x, constant(1));
+		IValue ifFalse = op(Operation.SUB, this.x, constant(1));
+
+		IValue alwaysTrue = MolangSimplifier.simplifyNode(new Ternary(constant(1), ifTrue, ifFalse));
+		IValue alwaysFalse = MolangSimplifier.simplifyNode(new Ternary(op(Operation.SUB, constant(2), constant(2)), ifTrue, ifFalse));
+
+		this.x.set(5);
+		assertTrue(alwaysTrue instanceof Operator && alwaysFalse instanceof Operator, "Ternaries with a constant condition should be replaced by their branch");
+		assertEquals(6, alwaysTrue.get());
+		assertEquals(4, alwaysFalse.get());
+		assertTrue(MolangSimplifier.simplifyNode(new Ternary(this.x, ifTrue, ifFalse)) instanceof Ternary, "Ternaries with a variable condition should be kept");
+	}
+
+	@Test
+	public void eliminatesIdentityOperations() {
+		assertSame(this.x, MolangSimplifier.simplifyNode(op(Operation.ADD, this.x, constant(0))));
+		assertSame(this.x, MolangSimplifier.simplifyNode(op(Operation.ADD, constant(0), this.x)));
+		assertSame(this.x, MolangSimplifier.simplifyNode(op(Operation.SUB, this.x, constant(0))));
+		assertSame(this.x, MolangSimplifier.simplifyNode(op(Operation.MUL, constant(1), this.x)));
+		assertSame(this.x, MolangSimplifier.simplifyNode(op(Operation.DIV, this.x, constant(1))));
+		assertSame(this.x, MolangSimplifier.simplifyNode(op(Operation.POW, this.x, op(Operation.SUB, constant(3), constant(2)))));
+	}
+
+	@Test
+	public void keepsRewritesThatAreUnsafeForNonFiniteOperands() {
+		IValue timesZero = MolangSimplifier.simplifyNode(op(Operation.MUL, this.x, constant(0)));
+		IValue toTheZero = MolangSimplifier.simplifyNode(op(Operation.POW, constant(0), this.x));
+
+		assertFalse(timesZero instanceof Constant, "x * 0 must not be folded");
+		assertFalse(toTheZero instanceof Constant, "0 ^ x must not be folded");
+
+		this.x.set(Double.POSITIVE_INFINITY);
+		assertTrue(Double.isNaN(timesZero.get()), "inf * 0 should still evaluate to NaN");
+
+		this.x.set(Double.NaN);
+		assertTrue(Double.isNaN(timesZero.get()), "NaN * 0 should still evaluate to NaN");
+		assertEquals(Math.pow(Double.NaN, 0), MolangSimplifier.simplifyNode(op(Operation.POW, this.x, constant(0))).get());
+	}
+
+	@Test
+	public void keepsVariables() {
+		IValue simplified = MolangSimplifier.simplifyNode(op(Operation.ADD, this.x, op(Operation.MUL, constant(2), constant(3))));
+
+		assertTrue(simplified instanceof Operator, "Variables should never be folded");
+
+		this.x.set(4);
+		assertEquals(10, simplified.get());
+	}
+
+	@Test
+	public void simplifiesExpressions() {
+		MolangValue constant = MolangSimplifier.simplify(new MolangValue(op(Operation.SUB, constant(10), constant(4))));
+
+		assertTrue(constant.isConstant(), "A constant expression should become a constant value");
+		assertEquals(6, constant.get());
+
+		Variable local = new Variable("temp.value", 0);
+		MolangCompoundValue compound = new MolangCompoundValue(new MolangVariableHolder(local, op(Operation.MUL, constant(2), constant(5))));
+
+		compound.values.add(new MolangValue(op(Operation.ADD, local, constant(0)), true));
+
+		MolangValue simplified = MolangSimplifier.simplify(compound);
+
+		assertFalse(simplified.isConstant(), "Assignments should never be folded");
+		assertEquals(10, simplified.get());
+		assertEquals(10, local.get());
+	}
+}
@@ -0,0 +1,89 @@
+package software.bernie.geckolib.core.object;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DataTicketStoreTest {
+	private static final DataTicket<Double> TICK = new DataTicket<>("tick", Double.class);
+	private static final DataTicket<String> NAME = new DataTicket<>("name", String.class);
+
+	@Test
+	public void storesDoublesAndObjects() {
+		DataTicketStore store = new DataTicketStore();
+
+		assertNull(store.getData(NAME));
+		assertEquals(-1, store.getDouble(TICK, -1));
+
+		store.setDouble(TICK, 5);
+		store.setData(NAME, "geo");
+
+		assertEquals(5, store.getDouble(TICK, -1));
+		assertEquals(5d, store.getData(TICK), "Double values should be readable as objects");
+		assertEquals("geo", store.getData(NAME));
+
+		store.setData(TICK, 7d);
+
+		assertEquals(7, store.getDouble(TICK, -1), "Boxed double values should be readable as primitives");
+	}
+
+	@Test
+	public void reusesStorageAfterClearing() {
+		DataTicketStore store = new DataTicketStore();
+
+		store.setData(NAME, "geo");
+		store.clear();
+
+		assertFalse(store.hasData(NAME));
+		assertNull(store.getData(NAME));
+
+		store.setDouble(TICK, 2);
+
+		assertTrue(store.hasData(TICK));
+		assertFalse(store.hasData(NAME));
+	}
+
+	@Test
+	public void mapViewIsLive() {
+		DataTicketStore store = new DataTicketStore();
+		Map<DataTicket<?>, Object> map = store.asMap();
+
+		assertTrue(map.isEmpty());
+
+		store.setDouble(TICK, 3);
+		store.setData(NAME, "geo");
+
+		assertEquals(Map.of(TICK, 3d, NAME, "geo"), map, "Changes to the store should be reflected in its map view");
+
+		map.remove(NAME);
+
+		assertFalse(store.hasData(NAME), "Removing an entry from the map view should remove it from the store");
+		assertEquals(Map.of(TICK, 3d), map);
+
+		store.clear();
+
+		assertTrue(map.isEmpty());
+	}
+
+	@Test
+	public void sharesDataBetweenEqualTickets() {
+		DataTicketStore store = new DataTicketStore();
+		int ticketCount = DataTicket.getTicketCount();
+		DataTicket<String> equalName = new DataTicket<>("name", String.class);
+
+		assertEquals(NAME, equalName);
+		assertEquals(NAME.hashCode(), equalName.hashCode());
+		assertEquals(ticketCount, DataTicket.getTicketCount(), "Creating an equal ticket shouldn't allocate a new index");
+
+		store.setData(NAME, "geo");
+
+		assertEquals("geo", store.getData(equalName), "Equal tickets should refer to the same data");
+		assertNotEquals(NAME, new DataTicket<>("name", CharSequence.class), "Tickets with different object types shouldn't be equal");
+	}
+}
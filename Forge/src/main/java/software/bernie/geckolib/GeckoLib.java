@@ -6,6 +6,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import software.bernie.geckolib.network.GeckoLibNetwork;
 import software.bernie.geckolib.cache.GeckoLibCache;
+import software.bernie.geckolib.core.animation.AnimationDiagnostics;
 
 /**
  * Base class for Geckolib!<br>
@@ -28,6 +29,7 @@ public class GeckoLib {
 		if (!hasInitialized) {
 			DistExecutor.safeRunWhenOn(Dist.CLIENT, () -> GeckoLibCache::registerReloadListener);
 			GeckoLibNetwork.init();
+			AnimationDiagnostics.setReporter(LOGGER::warn);
 		}
 
 		hasInitialized = true;
@@ -37,8 +39,10 @@ public class GeckoLib {
 	 * Call this method instead of {@link GeckoLib#initialize} if you are shadowing the mod.
 	 */
 	synchronized public static void shadowInit() {
-		if (!hasInitialized)
+		if (!hasInitialized) {
 			DistExecutor.safeRunWhenOn(Dist.CLIENT, () -> GeckoLibCache::registerReloadListener);
+			AnimationDiagnostics.setReporter(LOGGER::warn);
+		}
 
 		hasInitialized = true;
 	}
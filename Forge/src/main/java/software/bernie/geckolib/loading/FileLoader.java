@@ -8,6 +8,7 @@ import org.apache.commons.io.IOUtils;
 import software.bernie.geckolib.GeckoLib;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.loading.json.raw.Model;
+import software.bernie.geckolib.loading.json.typeadapter.BakedAnimationsAdapter;
 import software.bernie.geckolib.loading.object.BakedAnimations;
 import software.bernie.geckolib.util.JsonUtil;
 
@@ -20,12 +21,16 @@ import java.nio.charset.Charset;
  */
 public final class FileLoader {
 	/**
-	 * Load up and deserialize an animation json file to its respective {@link software.bernie.geckolib.core.animation.Animation} components
+	 * Load up and deserialize an animation json file to its respective {@link software.bernie.geckolib.core.animation.Animation} components.<br>
+	 * Constant-only keyframe channels are pre-sampled at the file's {@code "geckolib_sample_rate"} if present, or the {@link BakedAnimationsAdapter#getDefaultSampleRate() default sample rate} otherwise
 	 * @param location The resource path of the animations file
 	 * @param manager The Minecraft {@code ResourceManager} responsible for maintaining in-memory resource access
 	 */
 	public static BakedAnimations loadAnimationsFile(ResourceLocation location, ResourceManager manager) {
-		return JsonUtil.GEO_GSON.fromJson(GsonHelper.getAsJsonObject(loadFile(location, manager), "animations"), BakedAnimations.class);
+		JsonObject json = loadFile(location, manager);
+		BakedAnimations animations = JsonUtil.GEO_GSON.fromJson(GsonHelper.getAsJsonObject(json, "animations"), BakedAnimations.class);
+
+		return BakedAnimationsAdapter.sampleConstantChannels(animations, GsonHelper.getAsFloat(json, "geckolib_sample_rate", BakedAnimationsAdapter.getDefaultSampleRate()));
 	}
 
 	/**
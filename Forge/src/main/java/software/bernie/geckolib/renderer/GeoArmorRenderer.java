@@ -290,10 +290,10 @@ public class GeoArmorRenderer<T extends Item & GeoItem> extends HumanoidModel im
 		poseStack.scale(-1, -1, 1);
 
 		if (!isReRender) {
-			AnimationState<T> animationState = new AnimationState<>(animatable, 0, 0, partialTick, false);
+			AnimationState<T> animationState = this.model.obtainAnimationState(animatable, 0, 0, partialTick, false);
 			long instanceId = getInstanceId(animatable);
 
-			animationState.setData(DataTickets.TICK, animatable.getTick(this.currentEntity));
+			animationState.setDouble(DataTickets.TICK, animatable.getTick(this.currentEntity));
 			animationState.setData(DataTickets.ITEMSTACK, this.currentStack);
 			animationState.setData(DataTickets.ENTITY, this.currentEntity);
 			animationState.setData(DataTickets.EQUIPMENT_SLOT, this.currentSlot);
@@ -140,10 +140,10 @@ public class GeoBlockRenderer<T extends BlockEntity & GeoAnimatable> implements
 		poseStack.pushPose();
 
 		if (!isReRender) {
-			AnimationState<T> animationState = new AnimationState<T>(animatable, 0, 0, partialTick, false);
+			AnimationState<T> animationState = this.model.obtainAnimationState(animatable, 0, 0, partialTick, false);
 			long instanceId = getInstanceId(animatable);
 
-			animationState.setData(DataTickets.TICK, animatable.getTick(animatable));
+			animationState.setDouble(DataTickets.TICK, animatable.getTick(animatable));
 			animationState.setData(DataTickets.BLOCK_ENTITY, animatable);
 			this.model.addAdditionalStateData(animatable, instanceId, animationState::setData);
 			poseStack.translate(0.5, 0, 0.5);
@@ -228,10 +228,10 @@ public class GeoReplacedEntityRenderer<E extends Entity, T extends GeoAnimatable
 		}
 
 		if (!isReRender) {
-			AnimationState<T> animationState = new AnimationState<T>(animatable, limbSwing, limbSwingAmount, partialTick, isMoving);
+			AnimationState<T> animationState = this.model.obtainAnimationState(animatable, limbSwing, limbSwingAmount, partialTick, isMoving);
 			long instanceId = getInstanceId(animatable);
 
-			animationState.setData(DataTickets.TICK, animatable.getTick(this.currentEntity));
+			animationState.setDouble(DataTickets.TICK, animatable.getTick(this.currentEntity));
 			animationState.setData(DataTickets.ENTITY, this.currentEntity);
 			animationState.setData(DataTickets.ENTITY_MODEL_DATA, new EntityModelData(shouldSit, livingEntity != null && livingEntity.isBaby(), -netHeadYaw, -headPitch));
 			this.model.addAdditionalStateData(animatable, instanceId, animationState::setData);